@@ -2,10 +2,14 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
@@ -21,10 +25,15 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AsyncStorageManager;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -50,6 +59,11 @@ public class MainApp extends Application {
     protected Model model;
     protected Config config;
 
+    /**
+     * Whether the data was read from the data file, rather than replaced by sample or empty data.
+     */
+    private volatile boolean isDataFileRead;
+
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing FriendDex ]===========================");
@@ -60,12 +74,13 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
+        storage = new AsyncStorageManager(new StorageManager(addressBookStorage, userPrefsStorage));
 
         initLogging(config);
 
-        model = initModelManager(storage, userPrefs);
+        // The data is loaded in the background once the UI is up, see #start(Stage)
+        model = new ModelManager(new AddressBook(), userPrefs);
 
         logic = new LogicManager(model, storage);
 
@@ -97,18 +112,41 @@ public class MainApp extends Application {
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the storage for the data file in the format chosen in {@code userPrefs}.
+     * Every storage reads data files in any format, so changing the format converts the data file when it is
+     * next saved.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getDataFileFormat()) {
+        case SHARDED:
+            // Shards already rewrite only the persons that changed, so they are not journaled
+            return new ShardedAddressBookStorage(filePath, ShardedAddressBookStorage.DEFAULT_SHARD_SIZE,
+                    userPrefs.isDataFilePrettyPrinted());
+        case BINARY:
+            return new JournaledAddressBookStorage(new BinaryAddressBookStorage(filePath));
+        case JSON:
+        default:
+            return new JournaledAddressBookStorage(
+                    new JsonAddressBookStorage(filePath, userPrefs.isDataFilePrettyPrinted()));
+        }
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book, passing the persons read to {@code loadedPersonsHandler}
+     * in batches as they are read. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+    private ReadOnlyAddressBook readInitialData(Storage storage, Consumer<List<Person>> loadedPersonsHandler) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
-            addressBookOptional = storage.readAddressBook();
+            addressBookOptional = storage.readAddressBook(storage.getAddressBookFilePath(), loadedPersonsHandler);
             if (!addressBookOptional.isPresent()) {
                 logger.info("Data file not found. Will be starting with a sample FriendDex");
             }
+            isDataFileRead = addressBookOptional.isPresent();
             initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
         } catch (DataConversionException e) {
             logger.warning("Data file not in the correct format. Will be starting with an empty FriendDex");
@@ -118,7 +156,36 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
+    }
+
+    /**
+     * Reads the data in a background thread, so that the window shows up without waiting for the whole data file to
+     * be read. Persons are added to the model in batches on the JavaFX application thread as they are read, so that
+     * they can be browsed while the rest loads. Once the whole data is read, it replaces them at once, with its groups
+     * and streaks, and the UI can run any command again.
+     */
+    private void startLoadingData() {
+        logic.setDataLoading(true);
+        Thread loader = new Thread(() -> {
+            long startTime = System.nanoTime();
+            ReadOnlyAddressBook initialData = readInitialData(storage, persons ->
+                    Platform.runLater(() -> model.addLoadedPersons(persons)));
+            Duration loadDuration = Duration.ofNanos(System.nanoTime() - startTime);
+            logger.info("Loaded data in " + loadDuration.toMillis() + " ms");
+
+            Platform.runLater(() -> {
+                model.setAddressBook(initialData);
+                logic.setDataLoading(false);
+                ui.showDataLoaded(loadDuration);
+                // Pictures are only known to be orphaned if every person referring to them has been read
+                if (isDataFileRead) {
+                    model.getPictureStore().collectOrphanedPicturesInBackground();
+                }
+            });
+        }, "FriendDex data loader");
+        loader.setDaemon(true);
+        loader.start();
     }
 
     private void initLogging(Config config) {
@@ -197,6 +264,7 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting FriendDex " + MainApp.VERSION);
         ui.start(primaryStage);
+        startLoadingData();
     }
 
     @Override
@@ -207,5 +275,10 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.flush();
+        } catch (IOException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,49 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * The source of the current date for the whole app, backed by a {@link Clock} that can be replaced to run the app
+ * at a fixed date.
+ * The current date is cached and only converted from the clock again once the cached day is over, so callers on hot
+ * paths such as validating every date in a loaded data file only pay for reading the clock's instant.
+ */
+public class AppClock {
+    private static Clock clock = Clock.systemDefaultZone();
+    private static LocalDate today;
+    private static long nextDayMillis = Long.MIN_VALUE;
+
+    /**
+     * Returns the current date according to the clock in use.
+     */
+    public static synchronized LocalDate today() {
+        if (clock.millis() >= nextDayMillis) {
+            today = LocalDate.now(clock);
+            nextDayMillis = today.plusDays(1).atStartOfDay(clock.getZone()).toInstant().toEpochMilli();
+        }
+        return today;
+    }
+
+    public static synchronized Clock getClock() {
+        return clock;
+    }
+
+    /**
+     * Replaces the clock used for the current date, e.g. with {@link Clock#fixed} for tests and benchmarks.
+     */
+    public static synchronized void setClock(Clock newClock) {
+        requireNonNull(newClock);
+        clock = newClock;
+        nextDayMillis = Long.MIN_VALUE;
+    }
+
+    /**
+     * Restores the system clock in the default time-zone.
+     */
+    public static void useSystemClock() {
+        setClock(Clock.systemDefaultZone());
+    }
+}
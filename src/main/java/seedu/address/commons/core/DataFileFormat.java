@@ -0,0 +1,14 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats that the data file can be saved in.
+ * Data files in any format can be read, whatever the format they are saved in.
+ */
+public enum DataFileFormat {
+    /** Human-readable JSON, which can be edited by hand. */
+    JSON,
+    /** A compact binary format, which is smaller and faster to read and save than JSON. */
+    BINARY,
+    /** JSON split into files of a fixed number of persons, so that saving only rewrites the files that changed. */
+    SHARDED
+}
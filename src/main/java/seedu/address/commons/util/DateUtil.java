@@ -10,6 +10,7 @@ import java.time.format.DateTimeFormatterBuilder;
 import java.time.format.DateTimeParseException;
 import java.util.Arrays;
 
+import seedu.address.commons.core.AppClock;
 import seedu.address.logic.parser.exceptions.ParseException;
 
 public class DateUtil {
@@ -65,11 +66,11 @@ public class DateUtil {
     }
 
     public static boolean isToday(LocalDate date) {
-        return date.isEqual(LocalDate.now());
+        return date.isEqual(AppClock.today());
     }
 
     public static boolean afterToday(LocalDate date) {
-        return date.isAfter(LocalDate.now());
+        return date.isAfter(AppClock.today());
     }
 
     public static String toUi(LocalDate localDate) {
@@ -1,13 +1,22 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -20,6 +29,8 @@ import javafx.application.Application;
 public class FileUtil {
 
     private static final String CHARSET = "UTF-8";
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final int HASH_BUFFER_SIZE = 64 * 1024;
 
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
@@ -91,11 +102,92 @@ public class FileUtil {
     }
 
     /**
-     * Assumes source file exists
+     * Writes the content written by {@code contentWriter} to a file, replacing the file only once the whole content
+     * is written. The content is written to a temporary file next to it first, then moved over the file, so that
+     * the file keeps its previous content if writing fails or the application stops midway.
+     * Will create the file and its missing parent directories if they do not exist yet.
+     *
+     * @throws IOException if the content cannot be written, in which case the file is left unchanged.
+     */
+    public static void writeAtomically(Path file, ContentWriter contentWriter) throws IOException {
+        createParentDirsOfFile(file);
+        Path temporaryFile = getTemporaryFile(file);
+        try {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temporaryFile))) {
+                contentWriter.write(out);
+            }
+            moveAtomically(temporaryFile, file);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Returns the path of the temporary file that {@link #writeAtomically(Path, ContentWriter)} writes before
+     * replacing {@code file}.
+     */
+    public static Path getTemporaryFile(Path file) {
+        return file.resolveSibling(file.getFileName() + ".tmp");
+    }
+
+    /**
+     * Moves {@code source} over {@code target}, atomically if the file system supports it, so that {@code target}
+     * is never seen partly replaced.
+     */
+    public static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Assumes source file exists.
+     * Copies the file with channel transfers, which the operating system can do without copying the content through
+     * the application.
+     *
+     * @throws java.nio.file.FileAlreadyExistsException if the destination file already exists.
      */
     public static void copyFile(Path source, Path destination) throws IOException {
         createParentDirsOfFile(destination);
-        Files.copy(source, destination);
+        try (FileChannel in = FileChannel.open(source, StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(destination, StandardOpenOption.WRITE,
+                     StandardOpenOption.CREATE_NEW)) {
+            long size = in.size();
+            long position = 0;
+            // a single transfer may copy fewer bytes than asked for
+            while (position < size) {
+                position += in.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    /**
+     * Returns the hexadecimal SHA-256 hash of the content of the file at {@code filePath}.
+     */
+    public static String hashFile(Path filePath) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // every Java platform supports SHA-256
+            throw new AssertionError(e);
+        }
+
+        byte[] buffer = new byte[HASH_BUFFER_SIZE];
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+
+        StringBuilder hash = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hash.append(String.format("%02x", b));
+        }
+        return hash.toString();
     }
 
     /**
@@ -126,13 +218,23 @@ public class FileUtil {
 
     /**
      * Checks if the content of the file is prefixed with any magic number from a given set.
+     * Only the first bytes of the file, as many as the longest magic number, are read.
      *
      * @throws IOException If the file cannot be read.
      */
     public static boolean hasMagicNumber(Path filePath, Set<Byte[]> allowedMagicNumber) throws IOException {
-        byte[] bytes = Files.readAllBytes(filePath);
+        int headerLength = 0;
+        for (Byte[] magicNumber : allowedMagicNumber) {
+            headerLength = Math.max(headerLength, magicNumber.length);
+        }
+        byte[] bytes = readHeader(filePath, headerLength);
+
         Byte current;
         for (Byte[] magicNumber : allowedMagicNumber) {
+            if (magicNumber.length > bytes.length) {
+                // the file is shorter than the magic number
+                continue;
+            }
             for (int i = 0; i < magicNumber.length; i++) {
                 current = magicNumber[i];
                 if (current != null && bytes[i] != current) {
@@ -145,6 +247,23 @@ public class FileUtil {
         return false;
     }
 
+    /**
+     * Returns the first {@code length} bytes of the file, or all of its bytes if the file is shorter.
+     *
+     * @throws IOException If the file cannot be read.
+     */
+    public static byte[] readHeader(Path filePath, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            // a single read may return fewer bytes than there are left in the file
+            int read = 0;
+            while (buffer.hasRemaining() && read != -1) {
+                read = channel.read(buffer);
+            }
+        }
+        return Arrays.copyOf(buffer.array(), buffer.position());
+    }
+
     /**
      * Checks if the file at the path given is below {@code maxSize}
      */
@@ -188,4 +307,12 @@ public class FileUtil {
         }
         return bytes;
     }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void write(OutputStream out) throws IOException;
+    }
 }
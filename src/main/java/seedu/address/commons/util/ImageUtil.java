@@ -0,0 +1,92 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+
+/**
+ * Helper functions for handling image files.
+ */
+public class ImageUtil {
+
+    private static final String THUMBNAIL_FORMAT = "png";
+
+    /**
+     * Writes a {@code size} by {@code size} PNG thumbnail of the center square of the image at {@code source} to
+     * {@code destination}, replacing any existing file.
+     * Large images are subsampled while they are read, so that the full resolution image is never held in memory.
+     * The thumbnail is written to a temporary file first, so that {@code destination} is never left half written.
+     *
+     * @throws IOException if the image cannot be read, or the thumbnail cannot be written.
+     */
+    public static void writeThumbnail(Path source, Path destination, int size) throws IOException {
+        requireNonNull(source);
+        requireNonNull(destination);
+
+        BufferedImage square = readCenterSquare(source, size);
+        BufferedImage thumbnail = new BufferedImage(size, size, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(square, 0, 0, size, size, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        FileUtil.createParentDirsOfFile(destination);
+        Path temporaryFile = destination.resolveSibling(destination.getFileName() + ".tmp");
+        try {
+            if (!ImageIO.write(thumbnail, THUMBNAIL_FORMAT, temporaryFile.toFile())) {
+                throw new IOException("No writer found for " + THUMBNAIL_FORMAT + " images");
+            }
+            Files.move(temporaryFile, destination, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Reads the center square of the image at {@code source}, skipping pixels so that its side is still at least
+     * twice {@code size} if the image is large enough.
+     */
+    private static BufferedImage readCenterSquare(Path source, int size) throws IOException {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(source.toFile())) {
+            if (inputStream == null) {
+                throw new IOException("Unable to read image " + source);
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(inputStream);
+            if (!readers.hasNext()) {
+                throw new IOException("Unsupported image format of " + source);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(inputStream, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                int side = Math.min(width, height);
+                int subsampling = Math.max(1, side / (size * 2));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceRegion(new Rectangle((width - side) / 2, (height - side) / 2, side, side));
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+}
@@ -2,7 +2,11 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.io.BufferedInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
@@ -11,6 +15,9 @@ import java.util.logging.Logger;
 
 import com.fasterxml.jackson.annotation.JsonAutoDetect;
 import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
@@ -40,12 +47,62 @@ public class JsonUtil {
                     .addDeserializer(Level.class, new LevelDeserializer(Level.class)));
 
     static <T> void serializeObjectToJsonFile(Path jsonFile, T objectToSerialize) throws IOException {
-        FileUtil.writeToFile(jsonFile, toJsonString(objectToSerialize));
+        FileUtil.writeAtomically(jsonFile, out -> {
+            try (JsonGenerator generator = createGenerator(out, true)) {
+                generator.writeObject(objectToSerialize);
+            }
+        });
     }
 
     static <T> T deserializeObjectFromJsonFile(Path jsonFile, Class<T> classOfObjectToDeserialize)
             throws IOException {
-        return fromJsonString(FileUtil.readFromFile(jsonFile), classOfObjectToDeserialize);
+        try (JsonParser parser = createParser(jsonFile)) {
+            return parser.readValueAs(classOfObjectToDeserialize);
+        }
+    }
+
+    /**
+     * Returns a parser that streams JSON from the file at {@code filePath}, and reads values with the same
+     * settings as {@link #fromJsonString(String, Class)}.
+     * The caller is responsible for closing the parser, which also closes the file.
+     *
+     * @throws IOException if the file cannot be opened.
+     */
+    public static JsonParser createParser(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        InputStream in = new BufferedInputStream(Files.newInputStream(filePath));
+        try {
+            return objectMapper.getFactory().createParser(in);
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns a generator that streams JSON in UTF-8 to {@code out}, and writes values with the same settings as
+     * {@link #toJsonString(Object)}.
+     * Files should be written through {@link FileUtil#writeAtomically(Path, FileUtil.ContentWriter)}, so that they
+     * are not left half written if writing fails. Closing the generator also closes {@code out}.
+     *
+     * @param isPrettyPrinted whether the JSON is indented over multiple lines instead of written on a single line.
+     */
+    public static JsonGenerator createGenerator(OutputStream out, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(out);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8);
+        return isPrettyPrinted ? generator.useDefaultPrettyPrinter() : generator;
+    }
+
+    /**
+     * Returns a generator that writes JSON to {@code writer} with the same settings as
+     * {@link #createGenerator(OutputStream, boolean)}, e.g. to serialize values into memory.
+     *
+     * @param isPrettyPrinted whether the JSON is indented over multiple lines instead of written on a single line.
+     */
+    public static JsonGenerator createGenerator(Writer writer, boolean isPrettyPrinted) throws IOException {
+        requireNonNull(writer);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(writer);
+        return isPrettyPrinted ? generator.useDefaultPrettyPrinter() : generator;
     }
 
     /**
@@ -114,6 +171,18 @@ public class JsonUtil {
         return objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(instance);
     }
 
+    /**
+     * Converts a given instance of a class into its JSON data string representation on a single line,
+     * e.g. to be appended to a file of one JSON value per line.
+     *
+     * @param instance The T object to be converted into the JSON string
+     * @param <T>      The generic type to create an instance of
+     * @return JSON data representation of the given class instance, in a string without line breaks
+     */
+    public static <T> String toCompactJsonString(T instance) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(instance);
+    }
+
     /**
      * Contains methods that retrieve logging level from serialized string.
      */
@@ -2,6 +2,8 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -9,6 +11,7 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonEvent;
 import seedu.address.model.person.PersonStreak;
@@ -28,6 +31,18 @@ public interface Logic {
 
     void saveFiles() throws IOException;
 
+    /**
+     * Sets whether the data is still being loaded into the model.
+     * While it is, only commands that do not change the data can be run, and nothing is saved, so that the data file
+     * is not overwritten with the part of the data loaded so far.
+     */
+    void setDataLoading(boolean isDataLoading);
+
+    /**
+     * Sets the handler of error messages for saves that failed after the command requesting them had completed.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
     /**
      * Returns the AddressBook.
      *
@@ -50,11 +65,23 @@ public interface Logic {
      */
     ObservableList<Person> getDetailedPerson();
 
+    /**
+     * Returns the names of the groups, other than the default group, that {@code person} is in.
+     *
+     * @see seedu.address.model.Model#getGroupNamesOf(Person)
+     */
+    Set<Name> getGroupNamesOf(Person person);
+
     /**
      * Returns an unmodifiable view of contacts and their streaks
      */
     ObservableList<PersonStreak> getPersonStreaks();
 
+    /**
+     * Updates the upcoming dates and streaks for a change in the current date.
+     */
+    void updateToday();
+
     /**
      * Returns the user prefs' address book file path.
      */
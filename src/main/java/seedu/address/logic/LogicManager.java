@@ -2,6 +2,8 @@ package seedu.address.logic;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -14,6 +16,8 @@ import seedu.address.logic.parser.InputParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonEvent;
 import seedu.address.model.person.PersonStreak;
@@ -24,12 +28,21 @@ import seedu.address.storage.Storage;
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_MESSAGE = "Could not save data to file: ";
+    public static final String MESSAGE_DATA_LOADING = "FriendDex is still loading your contacts. "
+            + "Only commands that do not change them can be run until it is done.";
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final InputParser inputParser;
 
+    /** Modification counts of the data last saved, or -1 so that the first save always goes through. */
+    private volatile long savedAddressBookModificationCount = -1;
+    private volatile long savedUserPrefsModificationCount = -1;
+    private long skippedSaveCount = 0;
+    private volatile Consumer<String> saveFailureHandler = unused -> { };
+    private boolean isDataLoading = false;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -37,6 +50,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         inputParser = new InputParser();
+        storage.setSaveFailureHandler(this::handleSaveFailure);
     }
 
     @Override
@@ -45,11 +59,16 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = inputParser.parseCommand(commandText);
+        if (isDataLoading && !command.isReadOnly()) {
+            throw new CommandException(MESSAGE_DATA_LOADING);
+        }
         commandResult = command.execute(model);
+        if (isDataLoading) {
+            return commandResult;
+        }
 
         try {
-            storage.saveAddressBook(model.getAddressBook());
-            storage.saveUserPrefs(model.getUserPrefs());
+            saveFiles();
         } catch (IOException ioe) {
             throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
         }
@@ -57,10 +76,65 @@ public class LogicManager implements Logic {
         return commandResult;
     }
 
+    /**
+     * Saves the address book and user prefs, skipping those that have not been modified since they were last saved.
+     * The modification counts are recorded before the saves are handed to the storage, so that a save failure
+     * reported by the storage, possibly before the save call returns, always makes the next save go through.
+     */
     @Override
     public void saveFiles() throws IOException {
-        storage.saveAddressBook(model.getAddressBook());
-        storage.saveUserPrefs(model.getUserPrefs());
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long addressBookModificationCount = addressBook.getModificationCount();
+        if (addressBookModificationCount != savedAddressBookModificationCount) {
+            savedAddressBookModificationCount = addressBookModificationCount;
+            try {
+                storage.saveAddressBook(addressBook);
+            } catch (IOException | RuntimeException e) {
+                savedAddressBookModificationCount = -1;
+                throw e;
+            }
+        } else {
+            logSkippedSave("address book");
+        }
+
+        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+        long userPrefsModificationCount = userPrefs.getModificationCount();
+        if (userPrefsModificationCount != savedUserPrefsModificationCount) {
+            savedUserPrefsModificationCount = userPrefsModificationCount;
+            try {
+                storage.saveUserPrefs(userPrefs);
+            } catch (IOException | RuntimeException e) {
+                savedUserPrefsModificationCount = -1;
+                throw e;
+            }
+        } else {
+            logSkippedSave("user prefs");
+        }
+    }
+
+    @Override
+    public void setDataLoading(boolean isDataLoading) {
+        this.isDataLoading = isDataLoading;
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        saveFailureHandler = handler;
+    }
+
+    /**
+     * Reports a failure to save to the save failure handler, and forgets what was saved so that everything is
+     * saved again on the next save.
+     */
+    private void handleSaveFailure(IOException ioe) {
+        savedAddressBookModificationCount = -1;
+        savedUserPrefsModificationCount = -1;
+        saveFailureHandler.accept(FILE_OPS_ERROR_MESSAGE + ioe);
+    }
+
+    private void logSkippedSave(String fileDescription) {
+        skippedSaveCount++;
+        logger.info("Skipped saving unchanged " + fileDescription + " (" + skippedSaveCount + " saves skipped so far)");
     }
 
     @Override
@@ -83,11 +157,23 @@ public class LogicManager implements Logic {
         return model.getDetailedPerson();
     }
 
+    @Override
+    public Set<Name> getGroupNamesOf(Person person) {
+        return model.getGroupNamesOf(person);
+    }
+
     @Override
     public ObservableList<PersonStreak> getPersonStreaks() {
         return model.getPersonStreaks();
     }
 
+    @Override
+    public void updateToday() {
+        logger.info("----------------[DAY CHANGED]");
+        model.updateUpcomingDates();
+        model.expireStreaks();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
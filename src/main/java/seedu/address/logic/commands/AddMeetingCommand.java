@@ -8,10 +8,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 
 import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -55,17 +52,6 @@ public class AddMeetingCommand extends Command {
         this.meeting = meeting;
     }
 
-    private static Person createEditedPerson(Person personToEdit, Meeting meeting) {
-        assert personToEdit != null;
-        List<Meeting> meetingsToEdit = new ArrayList<>(personToEdit.getMeetings());
-        meetingsToEdit.add(meeting);
-        meetingsToEdit = meetingsToEdit.stream()
-                .sorted(Comparator.comparing(Meeting::getDate).reversed())
-                .collect(Collectors.toList());
-
-        return personToEdit.withMeetings(meetingsToEdit);
-    }
-
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -83,7 +69,7 @@ public class AddMeetingCommand extends Command {
                     DateUtil.toErrorMessage(meetingDate)));
         }
 
-        Person editedPerson = createEditedPerson(person, meeting);
+        Person editedPerson = person.withMeeting(meeting);
 
         model.setPerson(person, editedPerson);
         model.updateFilteredPersonList();
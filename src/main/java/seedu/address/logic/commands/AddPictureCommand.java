@@ -10,7 +10,6 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
-import java.util.UUID;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -19,9 +18,9 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Picture;
+import seedu.address.model.person.PictureStore;
 
 public class AddPictureCommand extends Command {
 
@@ -59,23 +58,17 @@ public class AddPictureCommand extends Command {
 
         Person personToEdit = lastShownList.get(index.getZeroBased());
 
-        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
-        Path pictureDir = userPrefs.getPictureStorageDirPath();
-
-        UUID uuid = UUID.randomUUID();
-        String ext = FileUtil.extractExtension(filePath);
-        String newFileName = uuid.toString() + ext;
-        Path newFilePath = pictureDir.resolve(newFileName);
-
+        PictureStore pictureStore = model.getPictureStore();
+        Picture picture;
         try {
-            FileUtil.copyFile(filePath, newFilePath);
+            // the same picture is stored once, so it is added before the previous picture of the person is released
+            picture = pictureStore.add(filePath);
         } catch (IOException e) {
             throw new CommandException(String.format("Error copying file to picture storage directory. "
                     + "Please try again. %s", e));
         }
 
-        Picture picture = new Picture(newFilePath);
-        Person editedPerson = personToEdit.deletePicture().withPicture(picture);
+        Person editedPerson = personToEdit.deletePicture(pictureStore).withPicture(picture);
 
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList();
@@ -93,11 +86,7 @@ public class AddPictureCommand extends Command {
                     filePath, Picture.ALLOWED_FILE_EXTENSIONS_STRING));
         }
 
-        if (!Picture.hasImageFileSignature(filePath)) {
-            throw new CommandException(String.format(MESSAGE_INVALID_FILE_SIGNATURE,
-                    filePath, "Image"));
-        }
-
+        // the size is read from the file metadata, so it is checked before any of the file is read
         try {
             if (!FileUtil.belowSizeLimit(filePath, Picture.MAX_FILE_SIZE)) {
                 throw new CommandException(String.format(MESSAGE_FILE_TOO_BIG, filePath, Picture.MAX_FILE_SIZE));
@@ -105,6 +94,11 @@ public class AddPictureCommand extends Command {
         } catch (IOException e) {
             throw new CommandException(String.format("Error occurred checking file size. %s", e));
         }
+
+        if (!Picture.hasImageFileSignature(filePath)) {
+            throw new CommandException(String.format(MESSAGE_INVALID_FILE_SIGNATURE,
+                    filePath, "Image"));
+        }
     }
 
     @Override
@@ -3,9 +3,12 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.group.GroupHashMap.DEFAULT_GROUP_NAME;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.Picture;
 
 /**
  * Clears the address book.
@@ -20,10 +23,13 @@ public class ClearCommand extends Command {
     public CommandResult execute(Model model) {
         requireNonNull(model);
 
-        // Delete old images that are tracked by data file
-        model.getAddressBook().getPersonList().forEach(Person::deletePicture);
+        List<Picture> pictures = model.getAddressBook().getPersonList().stream()
+                .flatMap(person -> person.getPicture().stream())
+                .collect(Collectors.toList());
 
         model.setAddressBook(new AddressBook());
+        // Delete the picture files that were tracked by data file in the background, as no person refers to them now
+        model.getPictureStore().collectInBackground(pictures);
         model.updateUpcomingDates();
         model.updateDetailedPerson(null);
         model.setCurrentGroup(DEFAULT_GROUP_NAME);
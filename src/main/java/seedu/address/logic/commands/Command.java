@@ -16,4 +16,12 @@ public abstract class Command {
      * @throws CommandException If an error occurs during command execution.
      */
     public abstract CommandResult execute(Model model) throws CommandException;
+
+    /**
+     * Returns true if this command only changes what is shown, and not the data that is saved, so that it can be run
+     * while the data is still being loaded.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
 }
@@ -4,14 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_INDEX;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.person.Meeting;
 import seedu.address.model.person.Person;
 
 /**
@@ -54,13 +52,11 @@ public class DeleteMeetingCommand extends Command {
         }
 
         Person personToEdit = lastShownList.get(index.getZeroBased());
-        List<Meeting> meetings = new ArrayList<>(personToEdit.getMeetings());
-        if (meetingIndex.getZeroBased() >= meetings.size()) {
+        if (meetingIndex.getZeroBased() >= personToEdit.getMeetings().size()) {
             throw new CommandException((Messages.MESSAGE_INVALID_INDEX_ARGUMENT));
         }
-        meetings.remove(meetingIndex.getZeroBased());
 
-        Person editedPerson = personToEdit.withMeetings(meetings);
+        Person editedPerson = personToEdit.withoutMeeting(meetingIndex.getZeroBased());
 
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList();
@@ -49,7 +49,7 @@ public class DeletePictureCommand extends Command {
             throw new CommandException(String.format(MESSAGE_DELETE_PICTURE_NO_PICTURE_FOUND, name));
         }
 
-        Person editedPerson = personToEdit.deletePicture();
+        Person editedPerson = personToEdit.deletePicture(model.getPictureStore());
 
         model.setPerson(personToEdit, editedPerson);
         model.updateFilteredPersonList();
@@ -32,6 +32,11 @@ public class DetailsCommand extends Command {
         this.index = index;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
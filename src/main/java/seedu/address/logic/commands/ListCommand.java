@@ -32,6 +32,11 @@ public class ListCommand extends Command {
         this.name = name;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -24,6 +24,11 @@ public class ViewCommand extends Command {
         this.tab = tab;
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -3,16 +3,14 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.LocalDate;
-import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
-import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.ObservableMap;
+import seedu.address.commons.core.AppClock;
 import seedu.address.model.group.Group;
 import seedu.address.model.group.GroupHashMap;
 import seedu.address.model.person.Name;
@@ -30,6 +28,8 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniquePersonList persons;
     private final GroupHashMap groups;
     private final PersonStreakList personStreaks;
+    private final UpcomingEventList upcomingEvents;
+    private long modificationCount;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -42,6 +42,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         groups = new GroupHashMap();
         personStreaks = new PersonStreakList();
+        upcomingEvents = new UpcomingEventList();
     }
 
     public AddressBook() {}
@@ -66,6 +67,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         List<Name> personNames = persons.stream().map(Person::getName).collect(Collectors.toList());
         this.groups.addPersonNames(personNames);
         personStreaks.setPersons(persons);
+        upcomingEvents.setPersons(persons);
+        modificationCount++;
     }
 
     /**
@@ -74,6 +77,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setGroups(HashMap<Name, Group> groups) {
         this.groups.setGroups(groups);
+        modificationCount++;
     }
 
     /**
@@ -104,6 +108,21 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
         groups.addPersonName(p.getName());
         personStreaks.add(p);
+        upcomingEvents.add(p);
+        modificationCount++;
+    }
+
+    /**
+     * Adds {@code persons} read so far from a data file that is still being loaded, with a single change to the
+     * person list.
+     * Only the person list and the default group are updated. The other groups, streaks and upcoming events are left
+     * for when the whole address book has been loaded and is set with {@link #resetData(ReadOnlyAddressBook)}.
+     * None of the persons may already exist in the address book.
+     */
+    public void addLoadedPersons(List<Person> persons) {
+        this.persons.addAll(persons);
+        groups.addPersonNames(persons.stream().map(Person::getName).collect(Collectors.toList()));
+        modificationCount++;
     }
 
     /**
@@ -119,6 +138,8 @@ public class AddressBook implements ReadOnlyAddressBook {
             groups.replacePerson(target.getName(), editedPerson.getName());
         }
         personStreaks.setPerson(target, editedPerson);
+        upcomingEvents.setPerson(target, editedPerson);
+        modificationCount++;
     }
 
     /**
@@ -129,6 +150,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.remove(key);
         groups.deletePerson(key.getName());
         personStreaks.remove(key);
+        upcomingEvents.remove(key);
+        modificationCount++;
     }
 
     //// group-level operations
@@ -147,6 +170,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addGroup(Group g) {
         groups.add(g);
+        modificationCount++;
     }
 
     /**
@@ -155,6 +179,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeGroup(Group key) {
         groups.remove(key);
+        modificationCount++;
     }
 
     /**
@@ -164,7 +189,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setGroup(Name groupName, Group editedGroup) {
         requireAllNonNull(groupName, editedGroup);
 
-        groups.setGroup(groupName, editedGroup);
+        if (groups.setGroup(groupName, editedGroup)) {
+            modificationCount++;
+        }
     }
     //// util methods
 
@@ -184,35 +211,31 @@ public class AddressBook implements ReadOnlyAddressBook {
         return groups.asUnmodifiableObservableMap();
     }
 
+    /**
+     * Returns the names of the groups, other than the default group, that {@code person} is in.
+     */
+    public Set<Name> getGroupNamesOf(Person person) {
+        requireNonNull(person);
+        return groups.getGroupNamesOf(person.getName());
+    }
+
     @Override
     public ObservableList<PersonEvent> getUpcomingDates() {
-        List<PersonEvent> personEvents = new ArrayList<>();
-        persons.forEach(person -> {
-            // Add birthday
-            personEvents.add(new PersonEvent(person.getBirthday().getDate(), person,
-                    PersonEvent.getBirthdayDescription(person)));
-            // Add special dates
-            person.getDates().forEach(event -> personEvents.add(new PersonEvent(event.getDate(), person,
-                    PersonEvent.getEventDescription(person, event))));
-        });
-
-        LocalDate now = LocalDate.now();
-
-        // Sort by descriptions first then sort by date
-        personEvents.sort(Comparator.comparing(PersonEvent::getDescription));
-
-        personEvents.sort((x, y) -> {
-            // Sorts dates by proximity to current date
-            int xMonth = (x.getMonth() < now.getMonthValue()) ? (x.getMonth() + 12) : x.getMonth();
-            int yMonth = (y.getMonth() < now.getMonthValue()) ? (y.getMonth() + 12) : y.getMonth();
-            if (xMonth == yMonth) {
-                return x.getDate() - y.getDate();
-            } else {
-                return xMonth - yMonth;
-            }
-        });
-
-        return FXCollections.observableArrayList(personEvents);
+        return upcomingEvents.asUnmodifiableList();
+    }
+
+    /**
+     * Reorders the upcoming dates to start from the current month, if the month has changed.
+     */
+    public void updateUpcomingDates() {
+        upcomingEvents.updateToday(AppClock.today());
+    }
+
+    /**
+     * Breaks the streaks of persons whose goal deadline has passed.
+     */
+    public void expireStreaks() {
+        personStreaks.expireStreaks(AppClock.today());
     }
 
     @Override
@@ -220,6 +243,16 @@ public class AddressBook implements ReadOnlyAddressBook {
         return personStreaks.asUnmodifiableList();
     }
 
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public long getPersonModificationStamp(int index) {
+        return persons.getModificationStamp(index);
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
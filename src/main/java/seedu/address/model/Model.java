@@ -1,6 +1,8 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -11,6 +13,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonEvent;
 import seedu.address.model.person.PersonStreak;
+import seedu.address.model.person.PictureStore;
 
 /**
  * The API of the Model component.
@@ -54,16 +57,29 @@ public interface Model {
      */
     void setAddressBook(ReadOnlyAddressBook addressBook);
 
+    /**
+     * Adds {@code persons} read so far from a data file that is still being loaded, to be shown while the rest loads.
+     * The groups other than the default group, streaks and upcoming events are only updated once the whole address
+     * book is set with {@link #setAddressBook(ReadOnlyAddressBook)}.
+     */
+    void addLoadedPersons(List<Person> persons);
+
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the store of the picture files of persons, which counts the persons in the address book referring to
+     * each picture.
+     */
+    PictureStore getPictureStore();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
     /**
-     * Deletes the given person.
+     * Deletes the given person, and releases their picture from the picture store.
      * The person must exist in the address book.
      */
     void deletePerson(Person target);
@@ -135,13 +151,19 @@ public interface Model {
      */
     ObservableMap<Name, Group> getGroupMap();
 
+    /**
+     * Returns the names of the groups, other than the default group, that {@code person} is in.
+     */
+    Set<Name> getGroupNamesOf(Person person);
+
     /**
      * Returns an unmodifiable view of upcoming dates
      */
     ObservableList<PersonEvent> getUpcomingDates();
 
     /**
-     * Updates the list of upcoming dates
+     * Reorders the list of upcoming dates for the current date.
+     * The list itself is kept up to date as persons are added, edited or deleted.
      */
     void updateUpcomingDates();
 
@@ -159,4 +181,10 @@ public interface Model {
      * Returns an unmodifiable view of contacts and their streaks
      */
     ObservableList<PersonStreak> getPersonStreaks();
+
+    /**
+     * Breaks the streaks of persons whose goal deadline has passed as of the current date.
+     * Streaks are otherwise only recomputed when a person is added or edited.
+     */
+    void expireStreaks();
 }
@@ -5,6 +5,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.group.GroupHashMap.DEFAULT_GROUP_NAME;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -19,6 +21,7 @@ import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonEvent;
 import seedu.address.model.person.PersonStreak;
+import seedu.address.model.person.PictureStore;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -33,6 +36,7 @@ public class ModelManager implements Model {
     private final ObservableList<PersonEvent> upcomingDates;
     private final ObservableList<Person> detailedPerson;
     private final ObservableList<PersonStreak> personStreaks;
+    private final PictureStore pictureStore;
     private Group currentGroup;
 
     /**
@@ -52,6 +56,8 @@ public class ModelManager implements Model {
         detailedPerson = FXCollections.observableArrayList();
         personStreaks = this.addressBook.getPersonStreaks();
         currentGroup = this.addressBook.getGroupMap().get(DEFAULT_GROUP_NAME);
+        pictureStore = new PictureStore(this.userPrefs.getPictureStorageDirPath());
+        pictureStore.setReferences(this.addressBook.getPersonList());
     }
 
     public ModelManager() {
@@ -103,6 +109,21 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        pictureStore.setReferences(this.addressBook.getPersonList());
+
+        // the groups are replaced by new instances, so the current group is looked up again by name
+        Group newCurrentGroup = currentGroup == null ? null : groupMap.get(currentGroup.getName());
+        currentGroup = newCurrentGroup == null ? groupMap.get(DEFAULT_GROUP_NAME) : newCurrentGroup;
+    }
+
+    @Override
+    public void addLoadedPersons(List<Person> persons) {
+        addressBook.addLoadedPersons(persons);
+    }
+
+    @Override
+    public PictureStore getPictureStore() {
+        return pictureStore;
     }
 
     @Override
@@ -114,12 +135,12 @@ public class ModelManager implements Model {
     @Override
     public void deletePerson(Person target) {
         addressBook.removePerson(target);
+        target.deletePicture(pictureStore);
     }
 
     @Override
     public void addPerson(Person person) {
         addressBook.addPerson(person);
-        updateUpcomingDates();
     }
 
     @Override
@@ -208,6 +229,12 @@ public class ModelManager implements Model {
         return groupMap;
     }
 
+    @Override
+    public Set<Name> getGroupNamesOf(Person person) {
+        requireNonNull(person);
+        return addressBook.getGroupNamesOf(person);
+    }
+
     //=========== Details Panel =============================================================
 
     @Override
@@ -217,7 +244,7 @@ public class ModelManager implements Model {
 
     @Override
     public void updateUpcomingDates() {
-        upcomingDates.setAll(this.addressBook.getUpcomingDates());
+        addressBook.updateUpcomingDates();
     }
 
     @Override
@@ -235,6 +262,11 @@ public class ModelManager implements Model {
         return personStreaks;
     }
 
+    @Override
+    public void expireStreaks() {
+        addressBook.expireStreaks();
+    }
+
     @Override
     public boolean equals(Object obj) {
         // short circuit if same object
@@ -3,35 +3,44 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
 import java.util.stream.Collectors;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonStreak;
+import seedu.address.model.person.Streak;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Represents a list of PersonStreaks that will always be sorted in the descending order.
- * Uses a mutable list to achieve better efficiency.
+ * Only the persons with an active goal are shown in the list.
+ *
+ * The shown entries are kept in a {@link RankedList}, which is sorted by streak then name, so adding, removing or
+ * updating an entry takes logarithmic time and fires a single change at the entry's position. Each person's entry
+ * is also kept in a map keyed by name so that it can be located without recomputing the person's streak.
+ *
+ * Entries with an ongoing streak are also queued by their goal deadline, so that when the day changes only the
+ * streaks whose deadline has passed need to be expired.
  */
 public class PersonStreakList {
 
-    private final ObservableList<PersonStreak> lst;
-    private final ObservableList<PersonStreak> unmodifiableLst;
-    private final FilteredList<PersonStreak> filteredLst;
+    private static final Comparator<PersonStreak> DEADLINE_ORDER = Comparator
+            .comparing((PersonStreak ps) -> ps.getPerson().getStreakState().getDeadline())
+            .thenComparing(ps -> ps.getPerson().getName().fullName);
 
-    /**
-     * Initialises the PersonStreakList
-     */
-    public PersonStreakList() {
-        lst = FXCollections.observableArrayList();
-        filteredLst = new FilteredList<>(lst, (PersonStreak::isActiveGoal));
-        unmodifiableLst = FXCollections.unmodifiableObservableList(filteredLst);
-    }
+    private final RankedList<PersonStreak> lst = new RankedList<>();
+    private final ObservableList<PersonStreak> unmodifiableLst = FXCollections.unmodifiableObservableList(lst);
+    private final Map<Name, PersonStreak> entries = new HashMap<>();
+    private final TreeSet<PersonStreak> ongoingByDeadline = new TreeSet<>(DEADLINE_ORDER);
 
     /**
      * Replaces the contents of this list with {@code persons}
@@ -43,11 +52,17 @@ public class PersonStreakList {
                 .stream()
                 .distinct()
                 .map(PersonStreak::fromPerson)
-                .sorted()
                 .collect(Collectors.toList());
 
-        lst.clear();
-        lst.addAll(personStreaks);
+        entries.clear();
+        ongoingByDeadline.clear();
+        personStreaks.forEach(ps -> {
+            entries.put(ps.getPerson().getName(), ps);
+            if (isOngoing(ps)) {
+                ongoingByDeadline.add(ps);
+            }
+        });
+        lst.setAll(personStreaks.stream().filter(PersonStreak::isActiveGoal).collect(Collectors.toList()));
     }
 
     /**
@@ -56,22 +71,18 @@ public class PersonStreakList {
      */
     public void add(Person p) {
         requireNonNull(p);
-        PersonStreak toAdd = PersonStreak.fromPerson(p);
-
-        if (lst.contains(toAdd)) {
+        if (entries.containsKey(p.getName())) {
             throw new DuplicatePersonException();
         }
 
-        int i;
-        for (i = 0; i < lst.size(); i++) {
-            PersonStreak ps = lst.get(i);
-
-            if (toAdd.compareTo(ps) <= -1) {
-                break;
-            }
+        PersonStreak toAdd = PersonStreak.fromPerson(p);
+        entries.put(p.getName(), toAdd);
+        if (isOngoing(toAdd)) {
+            ongoingByDeadline.add(toAdd);
+        }
+        if (toAdd.isActiveGoal()) {
+            lst.add(toAdd);
         }
-
-        lst.add(i, toAdd);
     }
 
     /**
@@ -91,10 +102,38 @@ public class PersonStreakList {
      */
     public void remove(Person p) {
         requireNonNull(p);
-        PersonStreak toRemove = PersonStreak.fromPerson(p);
-        if (!lst.remove(toRemove)) {
+        PersonStreak toRemove = entries.get(p.getName());
+        if (toRemove == null || !toRemove.getPerson().equals(p)) {
             throw new PersonNotFoundException();
         }
+
+        entries.remove(p.getName());
+        if (isOngoing(toRemove)) {
+            ongoingByDeadline.remove(toRemove);
+        }
+        if (toRemove.isActiveGoal()) {
+            boolean isRemoved = lst.remove(toRemove);
+            assert isRemoved : "Every entry with an active goal should be present in the list";
+        }
+    }
+
+    /**
+     * Breaks the streaks whose goal deadline is before {@code today}, moving them to their new position in the list.
+     * Streaks that are still ongoing are not touched.
+     */
+    public void expireStreaks(LocalDate today) {
+        requireNonNull(today);
+        while (!ongoingByDeadline.isEmpty()
+                && ongoingByDeadline.first().getPerson().getStreakState().getDeadline().isBefore(today)) {
+            PersonStreak expired = ongoingByDeadline.pollFirst();
+            PersonStreak updated = new PersonStreak(expired.getPerson(), Streak.empty());
+            entries.put(updated.getPerson().getName(), updated);
+            if (expired.isActiveGoal()) {
+                boolean isRemoved = lst.remove(expired);
+                assert isRemoved : "Every entry with an active goal should be present in the list";
+                lst.add(updated);
+            }
+        }
     }
 
     /**
@@ -103,4 +142,8 @@ public class PersonStreakList {
     public ObservableList<PersonStreak> asUnmodifiableList() {
         return unmodifiableLst;
     }
+
+    private static boolean isOngoing(PersonStreak ps) {
+        return ps.getStreak().getValue() > 0;
+    }
 }
@@ -0,0 +1,255 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An {@code ObservableList} that keeps its elements sorted in their natural order.
+ *
+ * The elements are held in a treap in which every node also records the size of its subtree, so the element at any
+ * position and the position of any element are found by walking down from the root. Adding or removing an element
+ * only touches the nodes on one path of the tree, so {@link #add}, {@link #remove}, {@link #get} and
+ * {@link #indexOf} take logarithmic time on average. Adding or removing an element fires a single change at its
+ * position.
+ *
+ * Elements are added with {@link #add} and {@link #setAll(Collection)}, which place them at their sorted position.
+ * Elements cannot be added or replaced at a given index.
+ */
+class RankedList<E extends Comparable<? super E>> extends ObservableListBase<E> {
+
+    private final Random random = new Random();
+    private Node<E> root;
+
+    @Override
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        int leftSize = size(node.left);
+        while (index != leftSize) {
+            if (index < leftSize) {
+                node = node.left;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+            leftSize = size(node.left);
+        }
+        return node.element;
+    }
+
+    @Override
+    public int size() {
+        return size(root);
+    }
+
+    /**
+     * Adds {@code element} after all elements that are ordered before or equal to it.
+     */
+    @Override
+    public boolean add(E element) {
+        requireNonNull(element);
+        int index = countOrderedBefore(element, true);
+        root = insert(root, new Node<>(element, random.nextInt()));
+
+        beginChange();
+        nextAdd(index, index + 1);
+        endChange();
+        return true;
+    }
+
+    /**
+     * Removes an element that is ordered equal to {@code o}, if there is one.
+     */
+    @Override
+    public boolean remove(Object o) {
+        int index = indexOf(o);
+        if (index < 0) {
+            return false;
+        }
+
+        E removed = get(index);
+        root = delete(root, index);
+
+        beginChange();
+        nextRemove(index, removed);
+        endChange();
+        return true;
+    }
+
+    /**
+     * Replaces the contents of this list with {@code elements}, in sorted order.
+     */
+    @Override
+    public boolean setAll(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        List<E> removed = new ArrayList<>(this);
+        root = null;
+        for (E element : elements) {
+            root = insert(root, new Node<>(requireNonNull(element), random.nextInt()));
+        }
+
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (!isEmpty()) {
+            nextAdd(0, size());
+        }
+        endChange();
+        return true;
+    }
+
+    /**
+     * Returns the position of the first element that is ordered equal to {@code o}, or -1 if there is none.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public int indexOf(Object o) {
+        if (o == null) {
+            return -1;
+        }
+
+        E element = (E) o;
+        int index = countOrderedBefore(element, false);
+        return index < size() && get(index).compareTo(element) == 0 ? index : -1;
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    /**
+     * Returns the number of elements ordered before {@code element}, also counting the elements ordered equal to it
+     * if {@code includeEqual} is true.
+     */
+    private int countOrderedBefore(E element, boolean includeEqual) {
+        int count = 0;
+        Node<E> node = root;
+        while (node != null) {
+            int cmp = element.compareTo(node.element);
+            if (cmp > 0 || (cmp == 0 && includeEqual)) {
+                count += size(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Inserts {@code toInsert} into the subtree rooted at {@code node}, after the elements ordered equal to it.
+     * @return the new root of the subtree.
+     */
+    private static <E extends Comparable<? super E>> Node<E> insert(Node<E> node, Node<E> toInsert) {
+        if (node == null) {
+            return toInsert;
+        }
+
+        if (toInsert.element.compareTo(node.element) < 0) {
+            node.left = insert(node.left, toInsert);
+            if (node.left.priority > node.priority) {
+                return rotateRight(node);
+            }
+        } else {
+            node.right = insert(node.right, toInsert);
+            if (node.right.priority > node.priority) {
+                return rotateLeft(node);
+            }
+        }
+        node.updateSize();
+        return node;
+    }
+
+    /**
+     * Deletes the node at {@code index} within the subtree rooted at {@code node}.
+     * @return the new root of the subtree.
+     */
+    private static <E> Node<E> delete(Node<E> node, int index) {
+        int leftSize = size(node.left);
+        if (index == leftSize) {
+            return merge(node.left, node.right);
+        }
+
+        if (index < leftSize) {
+            node.left = delete(node.left, index);
+        } else {
+            node.right = delete(node.right, index - leftSize - 1);
+        }
+        node.updateSize();
+        return node;
+    }
+
+    /**
+     * Joins two subtrees in which every element of {@code left} is ordered before every element of {@code right}.
+     * @return the root of the joined tree.
+     */
+    private static <E> Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.updateSize();
+            return left;
+        }
+        right.left = merge(left, right.left);
+        right.updateSize();
+        return right;
+    }
+
+    private static <E> Node<E> rotateRight(Node<E> node) {
+        Node<E> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.updateSize();
+        newRoot.updateSize();
+        return newRoot;
+    }
+
+    private static <E> Node<E> rotateLeft(Node<E> node) {
+        Node<E> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.updateSize();
+        newRoot.updateSize();
+        return newRoot;
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A node of the treap. Its priority is at least that of its children, and its size is the number of nodes in its
+     * subtree.
+     */
+    private static class Node<E> {
+        private final E element;
+        private final int priority;
+        private Node<E> left;
+        private Node<E> right;
+        private int size = 1;
+
+        Node(E element, int priority) {
+            this.element = element;
+            this.priority = priority;
+        }
+
+        void updateSize() {
+            size = 1 + size(left) + size(right);
+        }
+    }
+}
@@ -28,4 +28,19 @@ public interface ReadOnlyAddressBook {
     ObservableList<PersonEvent> getUpcomingDates();
 
     ObservableList<PersonStreak> getPersonStreaks();
+
+    /**
+     * Returns the number of modifications made to the address book so far.
+     * The address book is unchanged if this number is unchanged.
+     */
+    long getModificationCount();
+
+    /**
+     * Returns the modification stamp of the person at {@code index} of the person list.
+     * A person is stamped from a counter shared by all address books whenever it is added or replaced, or the person
+     * right before it is removed, and keeps its stamp as it moves. So if this stamp is no larger than the largest
+     * stamp at some earlier point, the person at {@code index} is unchanged since then, and no person right before it
+     * was removed.
+     */
+    long getPersonModificationStamp(int index);
 }
@@ -2,6 +2,7 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -14,4 +15,18 @@ public interface ReadOnlyUserPrefs {
     Path getAddressBookFilePath();
 
     Path getPictureStorageDirPath();
+
+    /**
+     * Returns true if the data file is saved indented over multiple lines, which is easier to read and edit by hand
+     * but larger and slower to save than saving it on a single line.
+     */
+    boolean isDataFilePrettyPrinted();
+
+    DataFileFormat getDataFileFormat();
+
+    /**
+     * Returns the number of modifications made to the user prefs so far.
+     * The user prefs are unchanged if this number is unchanged.
+     */
+    long getModificationCount();
 }
@@ -0,0 +1,220 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.AppClock;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonEvent;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Represents the birthdays and special dates of all persons, ordered by when they next recur in the year starting
+ * from the first day of the current month. Events on the same day are ordered by their description.
+ *
+ * Events are kept in one bucket per day of the year, so adding or removing a person only touches the buckets of that
+ * person's events and the list never has to be sorted as a whole.
+ */
+public class UpcomingEventList {
+
+    /** Number of buckets needed to hold every day of the year, including 29 February. */
+    private static final int DAYS_IN_LEAP_YEAR = 366;
+    private static final int LEAP_YEAR = 2000;
+    private static final Comparator<PersonEvent> SAME_DAY_ORDER = Comparator.comparing(PersonEvent::getDescription);
+
+    private final List<List<PersonEvent>> buckets = new ArrayList<>(DAYS_IN_LEAP_YEAR);
+    private final Map<Name, List<PersonEvent>> eventsByPerson = new HashMap<>();
+    private final ObservableList<PersonEvent> lst = FXCollections.observableArrayList();
+    private final ObservableList<PersonEvent> unmodifiableLst = FXCollections.unmodifiableObservableList(lst);
+
+    /** The first day of the current month, from which the events in {@code lst} are ordered. */
+    private LocalDate startOfMonth;
+    /** The bucket of {@code startOfMonth}, which holds the first events in {@code lst}. */
+    private int firstBucket;
+
+    /**
+     * Initialises an empty UpcomingEventList ordered from the current month.
+     */
+    public UpcomingEventList() {
+        for (int i = 0; i < DAYS_IN_LEAP_YEAR; i++) {
+            buckets.add(new ArrayList<>());
+        }
+        startOfMonth = AppClock.today().withDayOfMonth(1);
+        firstBucket = toBucket(startOfMonth);
+    }
+
+    /**
+     * Replaces the contents of this list with the events of {@code persons}.
+     * @param persons must not contain duplicate persons
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        buckets.forEach(List::clear);
+        eventsByPerson.clear();
+
+        for (Person p : persons) {
+            List<PersonEvent> events = toEvents(p);
+            if (eventsByPerson.putIfAbsent(p.getName(), events) != null) {
+                throw new DuplicatePersonException();
+            }
+            events.forEach(this::insertIntoBucket);
+        }
+
+        lst.setAll(concatenateBuckets());
+    }
+
+    /**
+     * Adds the events of a person to the list.
+     * @param p must not exist in the list
+     */
+    public void add(Person p) {
+        requireNonNull(p);
+        List<PersonEvent> events = toEvents(p);
+        if (eventsByPerson.putIfAbsent(p.getName(), events) != null) {
+            throw new DuplicatePersonException();
+        }
+
+        for (PersonEvent event : events) {
+            int bucket = toBucket(event.getLocalDate());
+            int indexInBucket = insertIntoBucket(event);
+            lst.add(countEventsBefore(bucket) + indexInBucket, event);
+        }
+    }
+
+    /**
+     * Replaces the events of {@code target} in the list with the events of {@code editedPerson}.
+     * @param target must exist in the list.
+     * @param editedPerson must not be the same as another existing person in the list.
+     */
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Removes the events of the equivalent person from the list.
+     * @param p must exist in the list
+     */
+    public void remove(Person p) {
+        requireNonNull(p);
+        List<PersonEvent> events = eventsByPerson.remove(p.getName());
+        if (events == null) {
+            throw new PersonNotFoundException();
+        }
+
+        for (PersonEvent event : events) {
+            int bucket = toBucket(event.getLocalDate());
+            int indexInBucket = indexInBucket(buckets.get(bucket), event);
+            lst.remove(countEventsBefore(bucket) + indexInBucket);
+            buckets.get(bucket).remove(indexInBucket);
+        }
+    }
+
+    /**
+     * Reorders the list to start from the month of {@code today}.
+     * Does nothing if the month has not changed since the list was last ordered.
+     */
+    public void updateToday(LocalDate today) {
+        requireNonNull(today);
+        int newFirstBucket = toBucket(today.withDayOfMonth(1));
+        if (newFirstBucket == firstBucket) {
+            return;
+        }
+
+        startOfMonth = today.withDayOfMonth(1);
+        firstBucket = newFirstBucket;
+        lst.setAll(concatenateBuckets());
+    }
+
+    /**
+     * Returns at most {@code limit} events that next recur on or after {@code today}, soonest first.
+     */
+    public List<PersonEvent> getUpcomingEvents(LocalDate today, int limit) {
+        requireNonNull(today);
+        List<PersonEvent> upcomingEvents = new ArrayList<>();
+        int startBucket = toBucket(today);
+        for (int i = 0; i < DAYS_IN_LEAP_YEAR && upcomingEvents.size() < limit; i++) {
+            List<PersonEvent> bucket = buckets.get((startBucket + i) % DAYS_IN_LEAP_YEAR);
+            upcomingEvents.addAll(bucket.subList(0, Math.min(bucket.size(), limit - upcomingEvents.size())));
+        }
+        return upcomingEvents;
+    }
+
+    /**
+     * Returns the backing list as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<PersonEvent> asUnmodifiableList() {
+        return unmodifiableLst;
+    }
+
+    /**
+     * Returns the birthday and special dates of {@code p} as {@code PersonEvent}s.
+     */
+    private static List<PersonEvent> toEvents(Person p) {
+        List<PersonEvent> events = new ArrayList<>();
+        events.add(new PersonEvent(p.getBirthday().getDate(), p, PersonEvent.getBirthdayDescription(p)));
+        p.getDates().forEach(date -> events.add(new PersonEvent(date.getDate(), p,
+                PersonEvent.getEventDescription(p, date))));
+        return events;
+    }
+
+    /**
+     * Returns the bucket of the day of the year on which {@code date} recurs.
+     */
+    private static int toBucket(LocalDate date) {
+        return LocalDate.of(LEAP_YEAR, date.getMonth(), date.getDayOfMonth()).getDayOfYear() - 1;
+    }
+
+    /**
+     * Inserts {@code event} into its bucket after all events that are ordered before or equal to it.
+     * @return the position of {@code event} within its bucket.
+     */
+    private int insertIntoBucket(PersonEvent event) {
+        List<PersonEvent> bucket = buckets.get(toBucket(event.getLocalDate()));
+        int index = 0;
+        while (index < bucket.size() && SAME_DAY_ORDER.compare(bucket.get(index), event) <= 0) {
+            index++;
+        }
+        bucket.add(index, event);
+        return index;
+    }
+
+    private static int indexInBucket(List<PersonEvent> bucket, PersonEvent event) {
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i) == event) {
+                return i;
+            }
+        }
+        throw new PersonNotFoundException();
+    }
+
+    /**
+     * Returns the number of events in the buckets from {@code firstBucket} up to, but excluding, {@code bucket}.
+     */
+    private int countEventsBefore(int bucket) {
+        int count = 0;
+        for (int i = firstBucket; i != bucket; i = (i + 1) % DAYS_IN_LEAP_YEAR) {
+            count += buckets.get(i).size();
+        }
+        return count;
+    }
+
+    /**
+     * Returns every event in the order of {@code lst}, i.e. all events from the start of the current month.
+     */
+    private List<PersonEvent> concatenateBuckets() {
+        return getUpcomingEvents(startOfMonth, Integer.MAX_VALUE);
+    }
+}
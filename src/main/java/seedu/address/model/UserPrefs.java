@@ -6,6 +6,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Objects;
 
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.GuiSettings;
 
 /**
@@ -16,6 +17,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
     private GuiSettings guiSettings = new GuiSettings();
     private Path friendDexFilePath = Paths.get("data" , "frienddex.json");
     private Path pictureStorageDirPath = Paths.get("data");
+    private boolean isDataFilePrettyPrinted = true;
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
+    private transient long modificationCount;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -38,6 +42,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
         setPictureStorageDirPath(newUserPrefs.getPictureStorageDirPath());
+        setDataFilePrettyPrinted(newUserPrefs.isDataFilePrettyPrinted());
+        setDataFileFormat(newUserPrefs.getDataFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -46,6 +52,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     public void setGuiSettings(GuiSettings guiSettings) {
         requireNonNull(guiSettings);
+        if (!guiSettings.equals(this.guiSettings)) {
+            modificationCount++;
+        }
         this.guiSettings = guiSettings;
     }
 
@@ -55,6 +64,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     public void setAddressBookFilePath(Path addressBookFilePath) {
         requireNonNull(addressBookFilePath);
+        if (!addressBookFilePath.equals(this.friendDexFilePath)) {
+            modificationCount++;
+        }
         this.friendDexFilePath = addressBookFilePath;
     }
 
@@ -64,9 +76,40 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     public void setPictureStorageDirPath(Path pictureStorageDirPath) {
         requireNonNull(pictureStorageDirPath);
+        if (!pictureStorageDirPath.equals(this.pictureStorageDirPath)) {
+            modificationCount++;
+        }
         this.pictureStorageDirPath = pictureStorageDirPath;
     }
 
+    public boolean isDataFilePrettyPrinted() {
+        return isDataFilePrettyPrinted;
+    }
+
+    public void setDataFilePrettyPrinted(boolean isDataFilePrettyPrinted) {
+        if (isDataFilePrettyPrinted != this.isDataFilePrettyPrinted) {
+            modificationCount++;
+        }
+        this.isDataFilePrettyPrinted = isDataFilePrettyPrinted;
+    }
+
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        requireNonNull(dataFileFormat);
+        if (dataFileFormat != this.dataFileFormat) {
+            modificationCount++;
+        }
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -80,12 +123,15 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         return guiSettings.equals(o.guiSettings)
                 && friendDexFilePath.equals(o.friendDexFilePath)
-                && pictureStorageDirPath.equals(o.pictureStorageDirPath);
+                && pictureStorageDirPath.equals(o.pictureStorageDirPath)
+                && isDataFilePrettyPrinted == o.isDataFilePrettyPrinted
+                && dataFileFormat == o.dataFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, friendDexFilePath, pictureStorageDirPath);
+        return Objects.hash(guiSettings, friendDexFilePath, pictureStorageDirPath, isDataFilePrettyPrinted,
+                dataFileFormat);
     }
 
     @Override
@@ -94,6 +140,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + friendDexFilePath);
         sb.append("\nLocal picture storage dir location: " + pictureStorageDirPath);
+        sb.append("\nData file pretty printed: " + isDataFilePrettyPrinted);
+        sb.append("\nData file format: " + dataFileFormat);
         return sb.toString();
     }
 
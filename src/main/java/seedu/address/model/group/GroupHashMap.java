@@ -3,8 +3,12 @@ package seedu.address.model.group;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableMap;
@@ -16,6 +20,10 @@ import seedu.address.model.person.Name;
  * A HashMap mapping groupName to Group.
  * Supports a minimal set of list operations.
  *
+ * Also maintains a reverse index from each person's name to the groups they are in, other than the default group, so
+ * that renaming or deleting a person only touches the groups containing them. Groups may be modified before they are
+ * set into the map, so the index keeps its own copy of the members of each group.
+ *
  * @see Group#isSameGroup(Group)
  */
 public class GroupHashMap {
@@ -24,10 +32,13 @@ public class GroupHashMap {
     private final ObservableMap<Name, Group> internalMap = FXCollections.observableHashMap();
     private final ObservableMap<Name, Group> internalUnmodifiableMap =
             FXCollections.unmodifiableObservableMap(internalMap);
+    private final Map<Name, Set<Name>> groupNamesByPerson = new HashMap<>();
+    private final Map<Name, Set<Name>> indexedMembers = new HashMap<>();
 
     public GroupHashMap() {
         internalMap.put(DEFAULT_GROUP_NAME, new Group(DEFAULT_GROUP_NAME));
     }
+
     /**
      * Returns true if the map contains an equivalent Name as the given argument.
      */
@@ -46,13 +57,27 @@ public class GroupHashMap {
             throw new DuplicateGroupException();
         }
         internalMap.put(toAdd.getName(), toAdd);
+        index(toAdd.getName(), toAdd);
     }
 
     /**
      * Replace given person name with new name in all groups.
      */
     public void replacePerson(Name personToReplace, Name newPersonName) {
-        internalMap.values().forEach(g -> g.setPersonName(personToReplace, newPersonName));
+        requireAllNonNull(personToReplace, newPersonName);
+        internalMap.get(DEFAULT_GROUP_NAME).setPersonName(personToReplace, newPersonName);
+
+        Set<Name> groupNames = groupNamesByPerson.remove(personToReplace);
+        if (groupNames == null) {
+            return;
+        }
+        for (Name groupName : groupNames) {
+            internalMap.get(groupName).setPersonName(personToReplace, newPersonName);
+            Set<Name> members = indexedMembers.get(groupName);
+            members.remove(personToReplace);
+            members.add(newPersonName);
+        }
+        groupNamesByPerson.put(newPersonName, groupNames);
     }
 
     /**
@@ -60,7 +85,25 @@ public class GroupHashMap {
      * instance of the {@code person} with given {@code name} in this group.
      */
     public void deletePerson(Name personToDelete) {
-        internalMap.values().forEach(g -> g.deletePerson(personToDelete));
+        requireNonNull(personToDelete);
+        internalMap.get(DEFAULT_GROUP_NAME).deletePerson(personToDelete);
+
+        Set<Name> groupNames = groupNamesByPerson.remove(personToDelete);
+        if (groupNames == null) {
+            return;
+        }
+        for (Name groupName : groupNames) {
+            internalMap.get(groupName).deletePerson(personToDelete);
+            indexedMembers.get(groupName).remove(personToDelete);
+        }
+    }
+
+    /**
+     * Returns the names of the groups, other than the default group, that contain the person with {@code personName}.
+     */
+    public Set<Name> getGroupNamesOf(Name personName) {
+        requireNonNull(personName);
+        return Collections.unmodifiableSet(groupNamesByPerson.getOrDefault(personName, Collections.emptySet()));
     }
 
     /**
@@ -87,21 +130,30 @@ public class GroupHashMap {
             throw new GroupNotFoundException();
         }
         internalMap.remove(toRemove.getName());
+        unindex(toRemove.getName());
     }
 
     /**
      * Replaces the group for {@code groupName} in the map with {@code editedGroup}.
      * {@code groupName} must exist in the hashmap.
+     *
+     * @return true if the group is a different group or its members have changed since it was last set.
      */
-    public void setGroup(Name groupName, Group editedGroup) {
+    public boolean setGroup(Name groupName, Group editedGroup) {
         requireAllNonNull(groupName, editedGroup);
 
         Group group = internalMap.get(groupName);
         if (group == null) {
             throw new GroupNotFoundException();
         }
+        boolean isChanged = group != editedGroup || !editedGroup.getPersonNames()
+                .equals(indexedMembers.getOrDefault(groupName, editedGroup.getPersonNames()));
+
         internalMap.remove(groupName);
         internalMap.put(groupName, editedGroup);
+        unindex(groupName);
+        index(groupName, editedGroup);
+        return isChanged;
     }
 
     /**
@@ -111,6 +163,9 @@ public class GroupHashMap {
         requireAllNonNull(groupHashMap);
         internalMap.clear();
         internalMap.putAll(groupHashMap);
+        groupNamesByPerson.clear();
+        indexedMembers.clear();
+        groupHashMap.forEach(this::index);
     }
 
     /**
@@ -120,6 +175,39 @@ public class GroupHashMap {
         return internalUnmodifiableMap;
     }
 
+    /**
+     * Adds the members of {@code group}, stored under {@code groupName}, to the reverse index.
+     */
+    private void index(Name groupName, Group group) {
+        if (groupName.equals(DEFAULT_GROUP_NAME)) {
+            return;
+        }
+
+        Set<Name> members = new HashSet<>(group.getPersonNames());
+        indexedMembers.put(groupName, members);
+        for (Name personName : members) {
+            groupNamesByPerson.computeIfAbsent(personName, unused -> new HashSet<>()).add(groupName);
+        }
+    }
+
+    /**
+     * Removes the members of the group stored under {@code groupName} from the reverse index.
+     */
+    private void unindex(Name groupName) {
+        Set<Name> members = indexedMembers.remove(groupName);
+        if (members == null) {
+            return;
+        }
+
+        for (Name personName : members) {
+            Set<Name> groupNames = groupNamesByPerson.get(personName);
+            groupNames.remove(groupName);
+            if (groupNames.isEmpty()) {
+                groupNamesByPerson.remove(personName);
+            }
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
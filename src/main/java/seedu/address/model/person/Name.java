@@ -3,7 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.lang.ref.WeakReference;
 import java.util.Locale;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 /**
  * Represents a Person's name in the address book.
@@ -20,8 +23,15 @@ public class Name {
      */
     public static final String VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    /** Names that are in use, so that identical names can share one instance. Entries are dropped once unused. */
+    private static final Map<String, WeakReference<Name>> POOL = new WeakHashMap<>();
+
     public final String fullName;
 
+    /** The name in lower case, as names are compared ignoring case. */
+    private final String key;
+    private final int hash;
+
     /**
      * Constructs a {@code Name}.
      *
@@ -31,6 +41,28 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_CONSTRAINTS);
         fullName = name;
+        key = name.toLowerCase(Locale.ROOT);
+        hash = key.hashCode();
+    }
+
+    /**
+     * Returns a {@code Name} of {@code name}, reusing the existing instance if an identical name is already in use.
+     *
+     * @param name A valid name.
+     */
+    public static Name of(String name) {
+        requireNonNull(name);
+        synchronized (POOL) {
+            WeakReference<Name> ref = POOL.get(name);
+            Name pooled = ref == null ? null : ref.get();
+            if (pooled == null) {
+                pooled = new Name(name);
+                POOL.remove(name);
+                // key the entry on the instance's own string so that the entry lives exactly as long as the name
+                POOL.put(pooled.fullName, new WeakReference<>(pooled));
+            }
+            return pooled;
+        }
     }
 
     /**
@@ -49,12 +81,13 @@ public class Name {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof Name // instanceof handles nulls
-                && fullName.equalsIgnoreCase(((Name) other).fullName)); // state check
+                && hash == ((Name) other).hash
+                && key.equals(((Name) other).key)); // state check
     }
 
     @Override
     public int hashCode() {
-        return fullName.toLowerCase(Locale.ROOT).hashCode();
+        return hash;
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.io.IOException;
@@ -14,6 +15,7 @@ import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
+import seedu.address.commons.core.AppClock;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.DateUtil;
 import seedu.address.model.tag.Tag;
@@ -41,6 +43,7 @@ public class Person {
     private final Set<Tag> tags = new HashSet<>();
     private final List<SpecialDate> dates = new ArrayList<>();
     private final List<Meeting> meetings = new ArrayList<>();
+    private final StreakState streakState;
 
     /**
      * Bare minimum fields to create a Person. Every field must be present and not null.
@@ -55,6 +58,7 @@ public class Person {
         this.picture = null;
         this.debt = new Debt("0");
         this.tags.addAll(tags);
+        this.streakState = StreakState.of(goal, meetings);
     }
 
     /**
@@ -74,6 +78,26 @@ public class Person {
         this.tags.addAll(tags);
         this.dates.addAll(dates);
         this.meetings.addAll(meetings);
+        this.streakState = StreakState.of(goal, this.meetings);
+    }
+
+    /**
+     * Used for immutable editing of fields that do not affect the streak, so that it is not recomputed.
+     */
+    private Person(Person source, Picture picture, Debt debt, List<SpecialDate> dates, List<Meeting> meetings,
+                   StreakState streakState) {
+        this.name = source.name;
+        this.phone = source.phone;
+        this.email = source.email;
+        this.birthday = source.birthday;
+        this.goal = source.goal;
+        this.address = source.address;
+        this.picture = picture;
+        this.debt = debt;
+        this.tags.addAll(source.tags);
+        this.dates.addAll(dates);
+        this.meetings.addAll(meetings);
+        this.streakState = streakState;
     }
 
     public Name getName() {
@@ -105,7 +129,7 @@ public class Person {
     }
 
     public Person withDebt(Debt debt) {
-        return new Person(name, phone, email, birthday, goal, address, picture, debt, tags, dates, meetings);
+        return new Person(this, picture, debt, dates, meetings, streakState);
     }
 
     public Optional<Picture> getPicture() {
@@ -113,7 +137,7 @@ public class Person {
     }
 
     public Person withPicture(Picture picture) {
-        return new Person(name, phone, email, birthday, goal, address, picture, debt, tags, dates, meetings);
+        return new Person(this, picture, debt, dates, meetings, streakState);
     }
 
     /**
@@ -129,7 +153,7 @@ public class Person {
     }
 
     public Person withDates(List<SpecialDate> dates) {
-        return new Person(name, phone, email, birthday, goal, address, picture, debt, tags, dates, meetings);
+        return new Person(this, picture, debt, dates, meetings, streakState);
     }
 
     public Person withGoal(Goal goal) {
@@ -149,6 +173,44 @@ public class Person {
         return new Person(name, phone, email, birthday, goal, address, picture, debt, tags, dates, meetings);
     }
 
+    /**
+     * Creates a new person with {@code meeting} added after the meetings on or after its date, keeping the meetings
+     * ordered from latest to earliest. The streak is updated from the cached streak where possible.
+     */
+    public Person withMeeting(Meeting meeting) {
+        requireNonNull(meeting);
+        List<Meeting> newMeetings = new ArrayList<>(meetings);
+        int idx = 0;
+        while (idx < newMeetings.size() && !newMeetings.get(idx).getDate().isBefore(meeting.getDate())) {
+            idx++;
+        }
+        newMeetings.add(idx, meeting);
+        return new Person(this, picture, debt, dates, newMeetings,
+                streakState.afterAdding(goal, newMeetings, meeting));
+    }
+
+    /**
+     * Creates a new person without the meeting at {@code index}. The streak is updated from the cached streak where
+     * possible.
+     */
+    public Person withoutMeeting(int index) {
+        List<Meeting> newMeetings = new ArrayList<>(meetings);
+        Meeting removed = newMeetings.remove(index);
+        return new Person(this, picture, debt, dates, newMeetings,
+                streakState.afterRemoving(goal, newMeetings, removed));
+    }
+
+    public StreakState getStreakState() {
+        return streakState;
+    }
+
+    /**
+     * Returns the streak of this person as of today.
+     */
+    public Streak getStreak() {
+        return streakState.toStreak(AppClock.today());
+    }
+
     public boolean isBeforeBirthday(LocalDate date) {
         return birthday.beforeBirthdate(date);
     }
@@ -175,18 +237,18 @@ public class Person {
     }
 
     /**
-     * Deletes the picture from person. The person is guaranteed to have a null {@code Picture} after
-     * execution of this method. Physical file may still remain if for some reason, the file cannot be deleted from
-     * disk.
+     * Deletes the picture from person, and releases it from {@code pictureStore}. The person is guaranteed to have a
+     * null {@code Picture} after execution of this method. The physical file is only deleted once no other person
+     * refers to it, and may still remain if for some reason, the file cannot be deleted from disk.
      */
-    public Person deletePicture() {
+    public Person deletePicture(PictureStore pictureStore) {
         if (picture == null) {
             return this;
         }
 
         try {
             // It is not that critical for the physical file of picture to get deleted so we just log the error.
-            picture.deleteFile();
+            pictureStore.release(picture);
         } catch (IOException e) {
             logger.warning("Unable to delete physical picture file for " + toString());
             logger.warning("IOException caught: " + e.getMessage());
@@ -26,7 +26,7 @@ public class PersonStreak implements Comparable<PersonStreak> {
      */
     public static PersonStreak fromPerson(Person p) {
         requireNonNull(p);
-        return new PersonStreak(p, Streak.from(p.getGoal(), p.getMeetings()));
+        return new PersonStreak(p, p.getStreak());
     }
 
     public Person getPerson() {
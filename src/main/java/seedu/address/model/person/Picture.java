@@ -7,6 +7,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ImageUtil;
 
 public class Picture {
 
@@ -20,6 +21,13 @@ public class Picture {
     // 10 MB
     public static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
 
+    /**
+     * Width and height of the thumbnails shown in place of pictures, in pixels.
+     */
+    public static final int THUMBNAIL_SIZE = 100;
+
+    private static final String THUMBNAIL_FILE_SUFFIX = "-thumbnail.png";
+
     public static final Set<Byte[]> IMAGE_MAGIC_NUMBERS = new HashSet<>();
 
     // Initialize magic numbers of images. null represents wildcard values for a particular byte.
@@ -32,9 +40,32 @@ public class Picture {
     }
 
     private final Path filePath;
+    private final Path thumbnailFilePath;
 
+    /**
+     * Creates a {@code Picture} of the file at {@code filePath}, with its thumbnail at the default path next to it.
+     */
     public Picture(Path filePath) {
+        this(filePath, getDefaultThumbnailFilePath(filePath));
+    }
+
+    /**
+     * Creates a {@code Picture} of the file at {@code filePath}, with its thumbnail at {@code thumbnailFilePath}.
+     * The thumbnail file does not have to exist yet.
+     */
+    public Picture(Path filePath, Path thumbnailFilePath) {
         this.filePath = filePath;
+        this.thumbnailFilePath = thumbnailFilePath;
+    }
+
+    /**
+     * Returns the default path of the thumbnail of the picture at {@code filePath}, which is in the same directory.
+     */
+    public static Path getDefaultThumbnailFilePath(Path filePath) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String baseName = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(baseName + THUMBNAIL_FILE_SUFFIX);
     }
 
     /**
@@ -70,7 +101,24 @@ public class Picture {
         return filePath.toAbsolutePath().toString();
     }
 
+    public Path getThumbnailFilePath() {
+        return thumbnailFilePath;
+    }
+
+    /**
+     * Creates the thumbnail of this picture at its thumbnail path, replacing any existing thumbnail.
+     *
+     * @throws IOException if the picture cannot be read, or the thumbnail cannot be written.
+     */
+    public void createThumbnail() throws IOException {
+        ImageUtil.writeThumbnail(filePath, thumbnailFilePath, THUMBNAIL_SIZE);
+    }
+
+    /**
+     * Deletes the picture file, and its thumbnail if it has been created.
+     */
     public void deleteFile() throws IOException {
+        Files.deleteIfExists(thumbnailFilePath);
         Files.delete(filePath);
     }
 
@@ -78,7 +126,9 @@ public class Picture {
     public String toString() {
         final StringBuilder sb = new StringBuilder();
         sb.append("filePath: ")
-                .append(filePath);
+                .append(filePath)
+                .append(" thumbnailFilePath: ")
+                .append(thumbnailFilePath);
         return sb.toString();
     }
 }
@@ -0,0 +1,254 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+import java.util.regex.Pattern;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Stores picture files in a directory under the hash of their content, so that the same picture added to several
+ * persons, or added again, is stored once.
+ * The store counts the persons referring to each picture file, and deletes a file once no person refers to it.
+ * Picture files that the store did not count, such as those named before pictures were stored by content, are
+ * deleted as soon as they are released, as they used to be.
+ * Picture files that were left behind, for example because they could not be deleted, are collected in the
+ * background. The store is thread-safe, so that it can be used by the collector while persons are edited.
+ */
+public class PictureStore {
+
+    private static final Logger logger = LogsCenter.getLogger(PictureStore.class);
+
+    private static final int COLLECTION_BATCH_SIZE = 64;
+
+    /**
+     * Names of the files written by the store, including those named by a random UUID before pictures were stored
+     * by content, their thumbnails, and the temporary files left behind if the application stopped while writing
+     * them. The picture directory may hold other files, such as the data file, so only these are ever collected.
+     */
+    private static final Pattern PICTURE_FILE_NAME = Pattern.compile(
+            "([0-9a-f]{64}|[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12})"
+                    + "(-thumbnail\\.png|\\.png|\\.jpe?g)(\\.tmp)?", Pattern.CASE_INSENSITIVE);
+
+    private final Path directory;
+    private final Map<Path, Integer> referenceCounts = new HashMap<>();
+    private final Map<Path, Integer> thumbnailReferenceCounts = new HashMap<>();
+    private final ExecutorService collector = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "FriendDex picture collector");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a {@code PictureStore} storing pictures in {@code directory}, with no picture referred to yet.
+     */
+    public PictureStore(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    /**
+     * Counts the references to pictures from {@code persons} afresh, replacing the current counts.
+     */
+    public synchronized void setReferences(List<Person> persons) {
+        referenceCounts.clear();
+        thumbnailReferenceCounts.clear();
+        for (Person person : persons) {
+            person.getPicture().ifPresent(this::addReference);
+        }
+    }
+
+    /**
+     * Returns the number of references to {@code picture} counted by this store.
+     */
+    public synchronized int getReferenceCount(Picture picture) {
+        return referenceCounts.getOrDefault(getKey(picture.getFilePath()), 0);
+    }
+
+    /**
+     * Stores a copy of the picture at {@code source} and counts one more reference to it.
+     * The picture is only copied, and its thumbnail only created, if the same picture is not stored yet.
+     *
+     * @return the stored picture.
+     * @throws IOException if the picture cannot be read or copied.
+     */
+    public synchronized Picture add(Path source) throws IOException {
+        requireNonNull(source);
+
+        String fileName = FileUtil.hashFile(source) + FileUtil.extractExtension(source).toLowerCase(Locale.ROOT);
+        Picture picture = new Picture(directory.resolve(fileName));
+        if (!FileUtil.isFileExists(picture.getFilePath())) {
+            copy(source, picture.getFilePath());
+            try {
+                picture.createThumbnail();
+            } catch (IOException e) {
+                // The thumbnail is created again when the picture is first shown, so the picture is still stored
+                logger.warning("Unable to create thumbnail of " + picture.getFilePath() + ": " + e);
+            }
+        }
+
+        addReference(picture);
+        return picture;
+    }
+
+    /**
+     * Counts one less reference to {@code picture}, and deletes its files if nothing refers to it anymore.
+     *
+     * @throws IOException if the files of the picture cannot be deleted.
+     */
+    public synchronized void release(Picture picture) throws IOException {
+        requireNonNull(picture);
+
+        Integer referenceCount = referenceCounts.get(getKey(picture.getFilePath()));
+        removeReference(picture);
+        if (referenceCount == null || referenceCount <= 1) {
+            picture.deleteFile();
+        }
+    }
+
+    /**
+     * Deletes the files of {@code pictures} that no person refers to anymore in the background, such as the pictures
+     * of persons that were just removed all at once.
+     */
+    public void collectInBackground(List<Picture> pictures) {
+        List<Path> files = new ArrayList<>();
+        for (Picture picture : pictures) {
+            files.add(picture.getFilePath());
+            files.add(picture.getThumbnailFilePath());
+        }
+        Instant startTime = Instant.now();
+        collector.execute(() -> logCollection(collect(files, startTime)));
+    }
+
+    /**
+     * Deletes the picture files in the picture directory that no person refers to in the background.
+     * This must only be done once the references of every person in the address book are counted, as any other
+     * picture file is deleted.
+     */
+    public void collectOrphanedPicturesInBackground() {
+        Instant startTime = Instant.now();
+        collector.execute(() -> {
+            try {
+                logCollection(collectOrphanedPictures(startTime));
+            } catch (IOException e) {
+                logger.warning("Unable to collect orphaned pictures in " + directory + ": " + e);
+            }
+        });
+    }
+
+    /**
+     * Deletes the picture files in the picture directory that no person refers to, and that were last modified
+     * before {@code startTime}, so that files being written while they are collected are kept.
+     * Files are deleted in batches, so that persons can be edited in between.
+     *
+     * @return the number of bytes reclaimed.
+     * @throws IOException if the picture directory cannot be read.
+     */
+    public long collectOrphanedPictures(Instant startTime) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return 0;
+        }
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory)) {
+            for (Path file : directoryStream) {
+                if (PICTURE_FILE_NAME.matcher(file.getFileName().toString()).matches()) {
+                    files.add(file);
+                }
+            }
+        }
+        return collect(files, startTime);
+    }
+
+    private long collect(List<Path> files, Instant startTime) {
+        long reclaimedBytes = 0;
+        for (int start = 0; start < files.size(); start += COLLECTION_BATCH_SIZE) {
+            reclaimedBytes += collectBatch(files.subList(start, Math.min(start + COLLECTION_BATCH_SIZE,
+                    files.size())), startTime);
+        }
+        return reclaimedBytes;
+    }
+
+    /**
+     * Deletes the unreferenced files among {@code files}, holding the lock of the store so that no person starts
+     * referring to them while they are deleted.
+     */
+    private synchronized long collectBatch(List<Path> files, Instant startTime) {
+        long reclaimedBytes = 0;
+        for (Path file : files) {
+            Path key = getKey(file);
+            if (referenceCounts.containsKey(key) || thumbnailReferenceCounts.containsKey(key)) {
+                continue;
+            }
+
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                if (!attributes.isRegularFile() || !attributes.lastModifiedTime().toInstant().isBefore(startTime)) {
+                    continue;
+                }
+                Files.delete(file);
+                reclaimedBytes += attributes.size();
+            } catch (NoSuchFileException e) {
+                // already deleted
+            } catch (IOException e) {
+                logger.warning("Unable to delete orphaned picture file " + file + ": " + e);
+            }
+        }
+        return reclaimedBytes;
+    }
+
+    private void logCollection(long reclaimedBytes) {
+        if (reclaimedBytes > 0) {
+            logger.info("Reclaimed " + reclaimedBytes + " bytes of orphaned pictures in " + directory);
+        }
+    }
+
+    private void addReference(Picture picture) {
+        referenceCounts.merge(getKey(picture.getFilePath()), 1, Integer::sum);
+        thumbnailReferenceCounts.merge(getKey(picture.getThumbnailFilePath()), 1, Integer::sum);
+    }
+
+    private void removeReference(Picture picture) {
+        // counts reaching zero are removed
+        referenceCounts.computeIfPresent(getKey(picture.getFilePath()), (unused, count) ->
+                count > 1 ? count - 1 : null);
+        thumbnailReferenceCounts.computeIfPresent(getKey(picture.getThumbnailFilePath()), (unused, count) ->
+                count > 1 ? count - 1 : null);
+    }
+
+    private static Path getKey(Path file) {
+        return file.toAbsolutePath().normalize();
+    }
+
+    /**
+     * Copies {@code source} to a temporary file first, so that no file is ever left half written under the name of
+     * a picture it does not hold.
+     */
+    private static void copy(Path source, Path destination) throws IOException {
+        Path temporaryFile = destination.resolveSibling(destination.getFileName() + ".tmp");
+        try {
+            Files.deleteIfExists(temporaryFile);
+            FileUtil.copyFile(source, temporaryFile);
+            Files.move(temporaryFile, destination, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+}
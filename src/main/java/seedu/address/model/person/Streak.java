@@ -2,10 +2,10 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
+
+import seedu.address.commons.core.AppClock;
 
 /**
  * Represents a streak in the address book.
@@ -15,7 +15,7 @@ public class Streak implements Comparable<Streak> {
 
     private final int value;
 
-    private Streak(int value) {
+    Streak(int value) {
         this.value = value;
     }
 
@@ -28,48 +28,7 @@ public class Streak implements Comparable<Streak> {
      */
     public static Streak from(Goal goal, List<Meeting> meetings) {
         requireAllNonNull(goal, meetings);
-
-        if (goal.isNoneFrequency() || meetings.isEmpty()) {
-            return Streak.empty();
-        }
-
-        List<LocalDate> dates = meetings.stream()
-                .map(Event::getDate)
-                .sorted(LocalDate::compareTo)
-                .collect(Collectors.toList());
-
-        return calculateToday(goal, dates);
-    }
-
-    private static Streak calculateToday(Goal goal, List<LocalDate> dates) {
-        requireAllNonNull(goal, dates);
-
-        int currentStreak = 1;
-        int idx = 1;
-        LocalDate currentDate = dates.get(0);
-        while (idx < dates.size()) {
-            LocalDate deadline = goal.getGoalDeadline(currentDate);
-            LocalDate nextDate = dates.get(idx);
-
-            if (nextDate.compareTo(deadline) <= 0) {
-                currentStreak += 1;
-            } else {
-                currentStreak = 1;
-            }
-
-            idx++;
-            currentDate = nextDate;
-        }
-
-        // Check that it is possible to continue the streak
-        LocalDate latestDate = currentDate;
-        LocalDate latestGoalDeadline = goal.getGoalDeadline(latestDate);
-
-        if (LocalDate.now().compareTo(latestGoalDeadline) > 0) {
-            return new Streak(0);
-        }
-
-        return new Streak(currentStreak);
+        return StreakState.of(goal, meetings).toStreak(AppClock.today());
     }
 
     public int getValue() {
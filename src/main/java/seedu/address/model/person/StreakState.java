@@ -0,0 +1,171 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Represents the latest run of meetings with a person that kept up with their goal, i.e. the meetings on which the
+ * streak is counted. It does not depend on the current date, so it is computed once per {@code Person} and turned
+ * into a {@code Streak} only when the streak is needed.
+ * Guaranteed to be immutable.
+ */
+public class StreakState {
+
+    private static final StreakState NONE = new StreakState(0, null, null, null);
+
+    private final int runLength;
+    private final LocalDate runStartDate;
+    private final LocalDate lastMeetingDate;
+    private final LocalDate deadline;
+
+    private StreakState(int runLength, LocalDate runStartDate, LocalDate lastMeetingDate, LocalDate deadline) {
+        this.runLength = runLength;
+        this.runStartDate = runStartDate;
+        this.lastMeetingDate = lastMeetingDate;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Returns the StreakState of the given {@code goal} and {@code List<Meeting>}.
+     * Meetings that are already ordered from latest to earliest are not sorted again.
+     */
+    public static StreakState of(Goal goal, List<Meeting> meetings) {
+        requireAllNonNull(goal, meetings);
+
+        if (goal.isNoneFrequency() || meetings.isEmpty()) {
+            return NONE;
+        }
+
+        List<LocalDate> dates = meetings.stream()
+                .map(Event::getDate)
+                .collect(Collectors.toList());
+        if (!isLatestFirst(dates)) {
+            dates.sort(Comparator.reverseOrder());
+        }
+
+        // Walk back from the latest meeting until the goal was missed between two meetings
+        int idx = 0;
+        while (idx + 1 < dates.size() && !dates.get(idx).isAfter(goal.getGoalDeadline(dates.get(idx + 1)))) {
+            idx++;
+        }
+
+        LocalDate latestDate = dates.get(0);
+        return new StreakState(idx + 1, dates.get(idx), latestDate, goal.getGoalDeadline(latestDate));
+    }
+
+    /**
+     * Returns the StreakState after {@code added} is added to the meetings this state was computed from.
+     * Only recomputes from {@code meetings}, the meetings after the addition, if {@code added} falls before the
+     * current run.
+     */
+    public StreakState afterAdding(Goal goal, List<Meeting> meetings, Meeting added) {
+        requireAllNonNull(goal, meetings, added);
+
+        if (goal.isNoneFrequency()) {
+            return NONE;
+        }
+
+        LocalDate date = added.getDate();
+        if (this == NONE || date.isBefore(runStartDate)) {
+            return of(goal, meetings);
+        }
+
+        if (!date.isAfter(lastMeetingDate)) {
+            // Meeting in the middle of the run only shortens the gaps between meetings in the run
+            return new StreakState(runLength + 1, runStartDate, lastMeetingDate, deadline);
+        }
+
+        if (date.isAfter(deadline)) {
+            return new StreakState(1, date, date, goal.getGoalDeadline(date));
+        }
+        return new StreakState(runLength + 1, runStartDate, date, goal.getGoalDeadline(date));
+    }
+
+    /**
+     * Returns the StreakState after {@code removed} is removed from the meetings this state was computed from.
+     * Only recomputes from {@code meetings}, the meetings after the removal, if {@code removed} is part of the
+     * current run.
+     */
+    public StreakState afterRemoving(Goal goal, List<Meeting> meetings, Meeting removed) {
+        requireAllNonNull(goal, meetings, removed);
+
+        if (this != NONE && removed.getDate().isBefore(runStartDate)) {
+            return this;
+        }
+        return of(goal, meetings);
+    }
+
+    /**
+     * Returns the streak as of {@code today}, which is broken if the goal deadline after the latest meeting is over.
+     */
+    public Streak toStreak(LocalDate today) {
+        if (this == NONE || today.isAfter(deadline)) {
+            return Streak.empty();
+        }
+        return new Streak(runLength);
+    }
+
+    public int getRunLength() {
+        return runLength;
+    }
+
+    /**
+     * Returns the date of the latest meeting, or null if there is no goal or no meetings.
+     */
+    public LocalDate getLastMeetingDate() {
+        return lastMeetingDate;
+    }
+
+    /**
+     * Returns the date by which the next meeting must happen to continue the streak, or null if there is no goal or
+     * no meetings.
+     */
+    public LocalDate getDeadline() {
+        return deadline;
+    }
+
+    private static boolean isLatestFirst(List<LocalDate> dates) {
+        for (int i = 1; i < dates.size(); i++) {
+            if (dates.get(i).isAfter(dates.get(i - 1))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+
+        StreakState that = (StreakState) o;
+        return runLength == that.runLength
+                && Objects.equals(runStartDate, that.runStartDate)
+                && Objects.equals(lastMeetingDate, that.lastMeetingDate)
+                && Objects.equals(deadline, that.deadline);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(runLength, runStartDate, lastMeetingDate, deadline);
+    }
+
+    @Override
+    public String toString() {
+        return "StreakState{"
+                + "runLength=" + runLength
+                + ", lastMeetingDate=" + lastMeetingDate
+                + ", deadline=" + deadline
+                + '}';
+    }
+}
@@ -3,8 +3,13 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -20,20 +25,44 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Persons are additionally indexed by their (case-insensitive) {@code Name} so that identity checks, replacement and
+ * removal do not need to scan {@code internalList}. Identity checks and adding take constant time. Removal still takes
+ * linear time, as {@code internalList} is an array-backed list that shifts every person after the removed one. The
+ * positions of those persons are then recomputed, also in linear time, the next time one of them is replaced or
+ * removed, so only replacements right after a removal are not constant time.
+ *
+ * Every person in the list also has a modification stamp, taken whenever the person is added or replaced, or the
+ * person right before it is removed. Stamps are taken from a counter shared by all lists, so a stamp that is larger
+ * than any stamp seen before means that the person or the persons right before it changed since then, e.g. since
+ * the list was last saved. Stamps move along with their persons, so removing a person only stamps the next one.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
+    private static final AtomicLong nextModificationStamp = new AtomicLong();
+
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
 
+    /*
+     * Maps the name of every person in internalList to its position in internalList.
+     * Removing a person shifts every person after it, so positions from validIndexCount onwards may be out of date
+     * and are only recomputed the next time one of them is needed.
+     */
+    private final Map<Name, Integer> nameToIndex = new HashMap<>();
+    private int validIndexCount = 0;
+
+    /** The modification stamp of every person in internalList. */
+    private final List<Long> modificationStamps = new ArrayList<>();
+
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nameToIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -41,7 +70,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean contains(Name toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(x->x.getName().equals(toCheck));
+        return nameToIndex.containsKey(toCheck);
     }
 
     /**
@@ -54,6 +83,33 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        modificationStamps.add(nextModificationStamp.incrementAndGet());
+        nameToIndex.put(toAdd.getName(), internalList.size() - 1);
+        if (validIndexCount == internalList.size() - 1) {
+            validIndexCount++;
+        }
+    }
+
+    /**
+     * Adds {@code persons} to the end of the list with a single change to its observers.
+     * None of the persons may already exist in the list, and {@code persons} must not contain duplicate persons.
+     */
+    public void addAll(List<Person> persons) {
+        requireAllNonNull(persons);
+        Map<Name, Integer> addedIndex = indexByName(persons);
+        for (Name name : addedIndex.keySet()) {
+            if (nameToIndex.containsKey(name)) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        int start = internalList.size();
+        internalList.addAll(persons);
+        modificationStamps.addAll(Collections.nCopies(persons.size(), nextModificationStamp.incrementAndGet()));
+        addedIndex.forEach((name, index) -> nameToIndex.put(name, start + index));
+        if (validIndexCount == start) {
+            validIndexCount = internalList.size();
+        }
     }
 
     /**
@@ -64,7 +120,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -74,6 +130,9 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        modificationStamps.set(index, nextModificationStamp.incrementAndGet());
+        nameToIndex.remove(target.getName());
+        nameToIndex.put(editedPerson.getName(), index);
     }
 
     /**
@@ -82,27 +141,41 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        modificationStamps.remove(index);
+        if (index < modificationStamps.size()) {
+            modificationStamps.set(index, nextModificationStamp.incrementAndGet());
+        }
+        nameToIndex.remove(toRemove.getName());
+        validIndexCount = Math.min(validIndexCount, index);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        resetModificationStamps();
+        rebuildIndex();
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
+     * Uniqueness is checked in a single pass and the list is replaced with a single change to its observers.
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<Name, Integer> replacementIndex = indexByName(persons);
 
         internalList.setAll(persons);
+        resetModificationStamps();
+        nameToIndex.clear();
+        nameToIndex.putAll(replacementIndex);
+        validIndexCount = internalList.size();
     }
 
     /**
@@ -112,6 +185,13 @@ public class UniquePersonList implements Iterable<Person> {
         return internalUnmodifiableList;
     }
 
+    /**
+     * Returns the modification stamp of the person at {@code index}.
+     */
+    public long getModificationStamp(int index) {
+        return modificationStamps.get(index);
+    }
+
     @Override
     public Iterator<Person> iterator() {
         return internalList.iterator();
@@ -130,16 +210,59 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person in {@code internalList} that is equal to {@code person} in all fields,
+     * or -1 if there is no such person.
+     */
+    private int indexOf(Person person) {
+        Integer index = nameToIndex.get(person.getName());
+        if (index == null) {
+            return -1;
+        }
+
+        if (index >= validIndexCount) {
+            refreshStaleIndices();
+            index = nameToIndex.get(person.getName());
+        }
+
+        return internalList.get(index).equals(person) ? index : -1;
+    }
+
+    private void resetModificationStamps() {
+        modificationStamps.clear();
+        modificationStamps.addAll(Collections.nCopies(internalList.size(), nextModificationStamp.incrementAndGet()));
+    }
+
+    /**
+     * Recomputes the positions of persons that may have shifted since the last removal.
+     */
+    private void refreshStaleIndices() {
+        for (int i = validIndexCount; i < internalList.size(); i++) {
+            nameToIndex.put(internalList.get(i).getName(), i);
+        }
+        validIndexCount = internalList.size();
+    }
+
+    /**
+     * Rebuilds {@code nameToIndex} from scratch after the contents of {@code internalList} are replaced.
+     */
+    private void rebuildIndex() {
+        nameToIndex.clear();
+        validIndexCount = 0;
+        refreshStaleIndices();
+    }
+
+    /**
+     * Returns the position of every person in {@code persons}, keyed by name.
+     *
+     * @throws DuplicatePersonException if {@code persons} contains persons with the same identity.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Integer> indexByName(List<Person> persons) {
+        Map<Name, Integer> index = new HashMap<>(persons.size() * 4 / 3 + 1);
+        for (int i = 0; i < persons.size(); i++) {
+            if (index.putIfAbsent(persons.get(i).getName(), i) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
     }
 }
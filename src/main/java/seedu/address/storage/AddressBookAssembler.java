@@ -0,0 +1,170 @@
+package seedu.address.storage;
+
+import static seedu.address.model.group.GroupHashMap.DEFAULT_GROUP_NAME;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATES_IN_GROUPS;
+import static seedu.address.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATES_IN_PERSONS;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Converts adapted persons into the model's {@code Person} as they are added, then assembles them and the
+ * groups into an {@code AddressBook}.
+ * Used by all address book file formats, so that they check the data in the same way.
+ * Persons are converted in batches, with the persons of a batch converted in parallel on the common
+ * {@code ForkJoinPool}, as they are checked independently of each other. Duplicates are then looked for in order,
+ * so the error reported is always the one for the first invalid or duplicate person, as if they were converted one at
+ * a time.
+ */
+class AddressBookAssembler {
+    static final int BATCH_SIZE = 1024;
+
+    private final Map<Name, Person> personsByName = new LinkedHashMap<>();
+    private final List<JsonAdaptedPerson> pendingPersons = new ArrayList<>();
+    private final List<JsonAdaptedGroup> groups = new ArrayList<>();
+    private final Consumer<List<Person>> loadedPersonsHandler;
+
+    /**
+     * Creates an {@code AddressBookAssembler} that passes every batch of persons to {@code loadedPersonsHandler} once
+     * the batch has been converted and checked.
+     */
+    AddressBookAssembler(Consumer<List<Person>> loadedPersonsHandler) {
+        this.loadedPersonsHandler = loadedPersonsHandler;
+    }
+
+    AddressBookAssembler() {
+        this(unused -> { });
+    }
+
+    /**
+     * Adds {@code jsonAdaptedPerson}, ignoring null values.
+     * The person is converted with the rest of its batch, which may be when a later person is added or when
+     * {@link #toModelType()} is called.
+     *
+     * @throws IllegalValueException if a person of the batch is invalid or has the same name as a person added before.
+     */
+    void addPerson(JsonAdaptedPerson jsonAdaptedPerson) throws IllegalValueException {
+        if (jsonAdaptedPerson == null) {
+            return;
+        }
+
+        pendingPersons.add(jsonAdaptedPerson);
+        if (pendingPersons.size() >= BATCH_SIZE) {
+            convertPendingPersons();
+        }
+    }
+
+    private void convertPendingPersons() throws IllegalValueException {
+        JsonAdaptedPerson[] jsonAdaptedPersons = pendingPersons.toArray(new JsonAdaptedPerson[0]);
+        pendingPersons.clear();
+        Person[] persons = new Person[jsonAdaptedPersons.length];
+        Exception[] errors = new Exception[jsonAdaptedPersons.length];
+        new ConvertPersonsTask(jsonAdaptedPersons, persons, errors, 0, jsonAdaptedPersons.length).invoke();
+
+        for (int i = 0; i < persons.length; i++) {
+            if (errors[i] instanceof IllegalValueException) {
+                throw (IllegalValueException) errors[i];
+            } else if (errors[i] != null) {
+                throw (RuntimeException) errors[i];
+            }
+            if (personsByName.putIfAbsent(persons[i].getName(), persons[i]) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATES_IN_PERSONS);
+            }
+        }
+        if (persons.length > 0) {
+            loadedPersonsHandler.accept(Collections.unmodifiableList(Arrays.asList(persons)));
+        }
+    }
+
+    /**
+     * Adds {@code jsonAdaptedGroup}, ignoring null values.
+     * Groups refer to persons, so they are only converted once all persons have been added.
+     */
+    void addGroup(JsonAdaptedGroup jsonAdaptedGroup) {
+        if (jsonAdaptedGroup != null) {
+            groups.add(jsonAdaptedGroup);
+        }
+    }
+
+    /**
+     * Returns an {@code AddressBook} with the persons and groups added so far.
+     *
+     * @throws IllegalValueException if a person is invalid or a duplicate, or a group is invalid or has the same name
+     *     as another group.
+     */
+    AddressBook toModelType() throws IllegalValueException {
+        convertPendingPersons();
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(new ArrayList<>(personsByName.values()));
+
+        // The default group is rebuilt by setPersons and is not read from the file
+        HashMap<Name, Group> modelGroups = new HashMap<>(addressBook.getGroupMap());
+        for (JsonAdaptedGroup jsonAdaptedGroup : groups) {
+            Group group = jsonAdaptedGroup.toModelType(personsByName);
+            if (group.getName().equals(DEFAULT_GROUP_NAME)) {
+                continue;
+            }
+            if (modelGroups.putIfAbsent(group.getName(), group) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATES_IN_GROUPS);
+            }
+        }
+        addressBook.setGroups(modelGroups);
+
+        return addressBook;
+    }
+
+    /**
+     * Converts a range of adapted persons, splitting it in halves to be converted in parallel while it is large.
+     * The person or the error of each adapted person is stored at its index, so that the errors are not reported out
+     * of order.
+     */
+    private static class ConvertPersonsTask extends RecursiveAction {
+        private static final int SEQUENTIAL_THRESHOLD = 64;
+
+        private final JsonAdaptedPerson[] jsonAdaptedPersons;
+        private final Person[] persons;
+        private final Exception[] errors;
+        private final int start;
+        private final int end;
+
+        ConvertPersonsTask(JsonAdaptedPerson[] jsonAdaptedPersons, Person[] persons, Exception[] errors,
+                int start, int end) {
+            this.jsonAdaptedPersons = jsonAdaptedPersons;
+            this.persons = persons;
+            this.errors = errors;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected void compute() {
+            if (end - start <= SEQUENTIAL_THRESHOLD) {
+                for (int i = start; i < end; i++) {
+                    try {
+                        persons[i] = jsonAdaptedPersons[i].toModelType();
+                    } catch (IllegalValueException | RuntimeException e) {
+                        errors[i] = e;
+                    }
+                }
+                return;
+            }
+
+            int middle = (start + end) >>> 1;
+            invokeAll(new ConvertPersonsTask(jsonAdaptedPersons, persons, errors, start, middle),
+                    new ConvertPersonsTask(jsonAdaptedPersons, persons, errors, middle, end));
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableMap;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonEvent;
+import seedu.address.model.person.PersonStreak;
+
+/**
+ * A copy of the persons and groups of an address book as they were when the snapshot was taken, so that it can be
+ * saved on another thread while the address book keeps changing.
+ * Upcoming dates and streaks are derived from the persons and are not saved, so they are not part of the snapshot.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Person> persons;
+    private final ObservableMap<Name, Group> groups;
+    private final long modificationCount;
+    private final long[] personModificationStamps;
+
+    /**
+     * Creates a snapshot of {@code source}. Persons are immutable and shared, but groups are copied.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getPersonList()));
+
+        Map<Name, Group> groupCopies = new HashMap<>();
+        source.getGroupMap().forEach((groupName, group) -> groupCopies.put(groupName,
+                new Group(group.getName(), new HashSet<>(group.getPersonNames()))));
+        groups = FXCollections.unmodifiableObservableMap(FXCollections.observableMap(groupCopies));
+
+        modificationCount = source.getModificationCount();
+        personModificationStamps = new long[persons.size()];
+        for (int i = 0; i < personModificationStamps.length; i++) {
+            personModificationStamps[i] = source.getPersonModificationStamp(i);
+        }
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableMap<Name, Group> getGroupMap() {
+        return groups;
+    }
+
+    @Override
+    public ObservableList<PersonEvent> getUpcomingDates() {
+        return FXCollections.emptyObservableList();
+    }
+
+    @Override
+    public ObservableList<PersonStreak> getPersonStreaks() {
+        return FXCollections.emptyObservableList();
+    }
+
+    @Override
+    public long getModificationCount() {
+        return modificationCount;
+    }
+
+    @Override
+    public long getPersonModificationStamp(int index) {
+        return personModificationStamps[index];
+    }
+
+    @Override
+    public String toString() {
+        return persons.size() + " persons";
+    }
+}
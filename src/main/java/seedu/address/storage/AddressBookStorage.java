@@ -2,10 +2,13 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -30,6 +33,18 @@ public interface AddressBookStorage {
      */
     Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Similar to {@link #readAddressBook(Path)}, but also passes the persons read to {@code loadedPersonsHandler} in
+     * batches, as soon as each batch has been read and checked, so that they can be shown before the whole address
+     * book is read. The batches are passed on the reading thread, and the address book returned may differ from them,
+     * e.g. if later changes were replayed onto them.
+     * Storages that cannot read persons in batches only return the whole address book.
+     */
+    default Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, Consumer<List<Person>> loadedPersonsHandler)
+            throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
     /**
      * Saves the given {@link ReadOnlyAddressBook} to the storage.
      * @param addressBook cannot be null.
@@ -42,4 +57,10 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Writes out any saved data that has not been fully written to the storage yet.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flush() throws IOException;
+
 }
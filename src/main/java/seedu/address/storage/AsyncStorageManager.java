@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+/**
+ * Saves data in the background so that callers do not wait for files to be written.
+ * Saves only take a snapshot of the data and hand it to a single writer thread. Saves requested while the writer is
+ * busy are coalesced, so that only the latest address book and user prefs are written once the writer is free.
+ * Failures to write are reported to the save failure handler instead of the caller.
+ */
+public class AsyncStorageManager implements Storage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncStorageManager.class);
+
+    private final Storage storage;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "FriendDex storage writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<PendingAddressBook> pendingAddressBook = new AtomicReference<>();
+    private final AtomicReference<ReadOnlyUserPrefs> pendingUserPrefs = new AtomicReference<>();
+    private volatile Consumer<IOException> saveFailureHandler = unused -> { };
+
+    /**
+     * Creates an {@code AsyncStorageManager} that writes to {@code storage} in the background.
+     */
+    public AsyncStorageManager(Storage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    // ================ UserPrefs methods ==============================
+
+    @Override
+    public Path getUserPrefsFilePath() {
+        return storage.getUserPrefsFilePath();
+    }
+
+    @Override
+    public Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException {
+        return storage.readUserPrefs();
+    }
+
+    @Override
+    public void saveUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        if (pendingUserPrefs.getAndSet(new UserPrefs(userPrefs)) == null) {
+            writer.execute(this::writePendingUserPrefs);
+        }
+    }
+
+    // ================ AddressBook methods ==============================
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return storage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return storage.readAddressBook();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        return storage.readAddressBook(filePath);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, Consumer<List<Person>> loadedPersonsHandler)
+            throws DataConversionException, IOException {
+        return storage.readAddressBook(filePath, loadedPersonsHandler);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+        saveAddressBook(addressBook, storage.getAddressBookFilePath());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        PendingAddressBook toSave = new PendingAddressBook(new AddressBookSnapshot(addressBook), filePath);
+        if (pendingAddressBook.getAndSet(toSave) == null) {
+            writer.execute(this::writePendingAddressBook);
+        }
+    }
+
+    // ================ Background writing ==============================
+
+    @Override
+    public void setSaveFailureHandler(Consumer<IOException> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    /**
+     * Blocks until all saves requested so far have been written and the wrapped storage has been flushed, then stops
+     * the writer. Saves requested afterwards are rejected.
+     */
+    @Override
+    public void flush() throws IOException {
+        try {
+            writer.submit(() -> {
+                storage.flush();
+                return null;
+            }).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.warning("Interrupted while waiting for data to be saved");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            logger.warning("Failed to wait for data to be saved: " + e.getCause());
+        } finally {
+            writer.shutdown();
+        }
+    }
+
+    private void writePendingAddressBook() {
+        PendingAddressBook toSave = pendingAddressBook.getAndSet(null);
+        if (toSave == null) {
+            return;
+        }
+
+        try {
+            storage.saveAddressBook(toSave.addressBook, toSave.filePath);
+        } catch (IOException e) {
+            handleSaveFailure(e);
+        }
+    }
+
+    private void writePendingUserPrefs() {
+        ReadOnlyUserPrefs toSave = pendingUserPrefs.getAndSet(null);
+        if (toSave == null) {
+            return;
+        }
+
+        try {
+            storage.saveUserPrefs(toSave);
+        } catch (IOException e) {
+            handleSaveFailure(e);
+        }
+    }
+
+    private void handleSaveFailure(IOException e) {
+        logger.warning("Failed to save data in the background: " + e);
+        saveFailureHandler.accept(e);
+    }
+
+    /**
+     * An address book snapshot waiting to be written to {@code filePath}.
+     */
+    private static class PendingAddressBook {
+        private final ReadOnlyAddressBook addressBook;
+        private final Path filePath;
+
+        PendingAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            this.addressBook = addressBook;
+            this.filePath = filePath;
+        }
+    }
+}
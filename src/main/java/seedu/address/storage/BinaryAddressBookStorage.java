@@ -0,0 +1,409 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Meeting;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.SpecialDate;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored in a compact binary file on the hard disk.
+ * The file starts with a magic number and a format version, followed by a table of all the strings in the
+ * address book, then the persons, each prefixed by its length in bytes, then the groups. Persons and groups refer to
+ * strings by their index in the table, so that repeated strings such as tags and descriptions are only stored once.
+ * Dates are stored as epoch days and debts as scaled integers. Integers are stored in as few bytes as possible.
+ * Persons and groups are converted through the same adapted classes as the JSON format, so that the two formats
+ * hold exactly the same data and are checked in the same way.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int VERSION = 2;
+    /**
+     * Version of files saved before pictures had thumbnails, which are still read.
+     */
+    public static final int VERSION_WITHOUT_THUMBNAILS = 1;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file format version %d is not supported.";
+    public static final String MESSAGE_INVALID_STRING_INDEX = "Data file refers to a non-existent string.";
+
+    private static final byte[] MAGIC_NUMBER = {'F', 'D', 'E', 'X'};
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the magic number of this format.
+     *
+     * @throws IOException if the file exists but cannot be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        if (!Files.isRegularFile(filePath)) {
+            return false;
+        }
+        try (InputStream in = Files.newInputStream(filePath)) {
+            return Arrays.equals(in.readNBytes(MAGIC_NUMBER.length), MAGIC_NUMBER);
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Files saved in other formats are read as well, so that the data file can be converted between formats by
+     * changing the format in the user prefs.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        return readAddressBook(filePath, unused -> { });
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, Consumer<List<Person>> loadedPersonsHandler)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+        DataFileFormat format = DataFileFormatDetector.detect(filePath);
+        if (format != DataFileFormat.BINARY) {
+            return DataFileFormatDetector.read(filePath, format, loadedPersonsHandler);
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return Optional.of(read(in, loadedPersonsHandler));
+        } catch (IOException | DateTimeException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The whole file is encoded in memory before it replaces the previous file, so that the previous file is kept if
+     * the address book cannot be encoded.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        write(addressBook, new DataOutputStream(bytes));
+        FileUtil.writeAtomically(filePath, bytes::writeTo);
+    }
+
+    /**
+     * Does nothing, as saves are fully written before they return.
+     */
+    @Override
+    public void flush() {
+    }
+
+    //// writing
+
+    private static void write(ReadOnlyAddressBook addressBook, DataOutputStream out) throws IOException {
+        StringTable strings = new StringTable();
+
+        // The string table comes first in the file, so persons are encoded before anything is written
+        ByteArrayOutputStream personBytes = new ByteArrayOutputStream();
+        DataOutputStream persons = new DataOutputStream(personBytes);
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (Person person : addressBook.getPersonList()) {
+            recordBytes.reset();
+            writePerson(person, record, strings);
+            writeVarInt(persons, recordBytes.size());
+            recordBytes.writeTo(persons);
+        }
+
+        ByteArrayOutputStream groupBytes = new ByteArrayOutputStream();
+        DataOutputStream groups = new DataOutputStream(groupBytes);
+        for (Group group : addressBook.getGroupMap().values()) {
+            writeVarInt(groups, strings.indexOf(group.getName().fullName));
+            writeVarInt(groups, group.getPersonNames().size());
+            for (Name personName : group.getPersonNames()) {
+                writeVarInt(groups, strings.indexOf(personName.fullName));
+            }
+        }
+
+        out.write(MAGIC_NUMBER);
+        writeVarInt(out, VERSION);
+        writeVarInt(out, strings.size());
+        for (String string : strings.strings) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(out, bytes.length);
+            out.write(bytes);
+        }
+        writeVarInt(out, addressBook.getPersonList().size());
+        personBytes.writeTo(out);
+        writeVarInt(out, addressBook.getGroupMap().size());
+        groupBytes.writeTo(out);
+    }
+
+    private static void writePerson(Person person, DataOutputStream out, StringTable strings) throws IOException {
+        writeVarInt(out, strings.indexOf(person.getName().fullName));
+        writeVarInt(out, strings.indexOf(person.getPhone().value));
+        writeVarInt(out, strings.indexOf(person.getEmail().value));
+        writeSignedVarLong(out, person.getBirthday().getDate().toEpochDay());
+        writeVarInt(out, strings.indexOf(person.getGoal().toString()));
+        writeVarInt(out, strings.indexOf(person.getAddress().value));
+
+        if (person.getPicture().isPresent()) {
+            out.writeBoolean(true);
+            writeVarInt(out, strings.indexOf(person.getPicture().get().getFilePath().toString()));
+            writeVarInt(out, strings.indexOf(person.getPicture().get().getThumbnailFilePath().toString()));
+        } else {
+            out.writeBoolean(false);
+        }
+
+        BigDecimal debt = person.getDebt().value;
+        try {
+            writeSignedVarLong(out, debt.unscaledValue().longValueExact());
+        } catch (ArithmeticException e) {
+            throw new IOException("Debt " + debt + " is too large to be saved", e);
+        }
+        writeSignedVarLong(out, debt.scale());
+
+        writeVarInt(out, person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeVarInt(out, strings.indexOf(tag.tagName));
+        }
+
+        writeVarInt(out, person.getDates().size());
+        for (SpecialDate date : person.getDates()) {
+            writeSignedVarLong(out, date.getDate().toEpochDay());
+            writeVarInt(out, strings.indexOf(date.getDescription()));
+        }
+
+        writeVarInt(out, person.getMeetings().size());
+        for (Meeting meeting : person.getMeetings()) {
+            writeSignedVarLong(out, meeting.getDate().toEpochDay());
+            writeVarInt(out, meeting.getTime().toSecondOfDay());
+            writeVarInt(out, meeting.getTime().getNano());
+            writeVarInt(out, strings.indexOf(meeting.getDescription()));
+        }
+    }
+
+    //// reading
+
+    private static ReadOnlyAddressBook read(DataInputStream in, Consumer<List<Person>> loadedPersonsHandler)
+            throws IOException, IllegalValueException {
+        byte[] magicNumber = new byte[MAGIC_NUMBER.length];
+        in.readFully(magicNumber);
+        int version = readVarInt(in);
+        if (version != VERSION && version != VERSION_WITHOUT_THUMBNAILS) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int stringCount = readVarInt(in);
+        List<String> strings = new ArrayList<>();
+        for (int i = 0; i < stringCount; i++) {
+            byte[] bytes = new byte[readVarInt(in)];
+            in.readFully(bytes);
+            strings.add(new String(bytes, StandardCharsets.UTF_8));
+        }
+
+        AddressBookAssembler assembler = new AddressBookAssembler(loadedPersonsHandler);
+        int personCount = readVarInt(in);
+        for (int i = 0; i < personCount; i++) {
+            byte[] record = new byte[readVarInt(in)];
+            in.readFully(record);
+            assembler.addPerson(readPerson(new DataInputStream(new ByteArrayInputStream(record)), strings, version));
+        }
+
+        int groupCount = readVarInt(in);
+        for (int i = 0; i < groupCount; i++) {
+            String groupName = readString(in, strings);
+            int memberCount = readVarInt(in);
+            List<String> personNames = new ArrayList<>();
+            for (int j = 0; j < memberCount; j++) {
+                personNames.add(readString(in, strings));
+            }
+            assembler.addGroup(new JsonAdaptedGroup(groupName, personNames));
+        }
+
+        return assembler.toModelType();
+    }
+
+    private static JsonAdaptedPerson readPerson(DataInputStream in, List<String> strings, int version)
+            throws IOException, IllegalValueException {
+        String name = readString(in, strings);
+        String phone = readString(in, strings);
+        String email = readString(in, strings);
+        LocalDate birthday = readDate(in);
+        String goal = readString(in, strings);
+        String address = readString(in, strings);
+        JsonAdaptedPicture picture = in.readBoolean()
+                ? readPicture(in, strings, version)
+                : null;
+        long unscaledDebt = readSignedVarLong(in);
+        String debt = new BigDecimal(BigInteger.valueOf(unscaledDebt), (int) readSignedVarLong(in)).toString();
+
+        int tagCount = readVarInt(in);
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(readString(in, strings)));
+        }
+
+        int dateCount = readVarInt(in);
+        List<JsonAdaptedSpecialDate> dates = new ArrayList<>();
+        for (int i = 0; i < dateCount; i++) {
+            LocalDate date = readDate(in);
+            dates.add(new JsonAdaptedSpecialDate(date, readString(in, strings)));
+        }
+
+        int meetingCount = readVarInt(in);
+        List<JsonAdaptedMeeting> meetings = new ArrayList<>();
+        for (int i = 0; i < meetingCount; i++) {
+            LocalDate date = readDate(in);
+            LocalTime time = LocalTime.ofSecondOfDay(readVarInt(in)).withNano(readVarInt(in));
+            meetings.add(new JsonAdaptedMeeting(date, time, readString(in, strings)));
+        }
+
+        return new JsonAdaptedPerson(name, phone, email, birthday, goal, address, picture, debt, tags, dates,
+                meetings);
+    }
+
+    private static JsonAdaptedPicture readPicture(DataInputStream in, List<String> strings, int version)
+            throws IOException, IllegalValueException {
+        Path filePath = Paths.get(readString(in, strings));
+        Path thumbnailFilePath = version == VERSION_WITHOUT_THUMBNAILS
+                ? null
+                : Paths.get(readString(in, strings));
+        return new JsonAdaptedPicture(filePath, thumbnailFilePath);
+    }
+
+    private static String readString(DataInputStream in, List<String> strings)
+            throws IOException, IllegalValueException {
+        int index = readVarInt(in);
+        if (index >= strings.size()) {
+            throw new IllegalValueException(MESSAGE_INVALID_STRING_INDEX);
+        }
+        return strings.get(index);
+    }
+
+    private static LocalDate readDate(DataInputStream in) throws IOException {
+        return LocalDate.ofEpochDay(readSignedVarLong(in));
+    }
+
+    //// variable-length integers, 7 bits per byte with the high bit set on all but the last byte
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        writeVarLong(out, Integer.toUnsignedLong(value));
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static void writeSignedVarLong(DataOutputStream out, long value) throws IOException {
+        // zigzag encoding, so that small negative values are small as well
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        long value = readVarLong(in);
+        if (value < 0 || value > Integer.MAX_VALUE) {
+            throw new IOException("Integer out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed variable-length integer");
+    }
+
+    private static long readSignedVarLong(DataInputStream in) throws IOException {
+        long value = readVarLong(in);
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    /**
+     * Strings in the order they were first added, with the index of each.
+     */
+    private static class StringTable {
+        private final List<String> strings = new ArrayList<>();
+        private final Map<String, Integer> indexes = new HashMap<>();
+
+        int indexOf(String string) {
+            return indexes.computeIfAbsent(string, unused -> {
+                strings.add(string);
+                return strings.size() - 1;
+            });
+        }
+
+        int size() {
+            return strings.size();
+        }
+    }
+}
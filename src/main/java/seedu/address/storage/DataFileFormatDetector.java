@@ -0,0 +1,62 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Recognises the format of a data file, so that every {@code AddressBookStorage} can read data files saved in any
+ * format and the format can be changed without losing data.
+ */
+class DataFileFormatDetector {
+
+    /**
+     * Returns the format of the existing data file at {@code filePath}.
+     * Files that are not in any other format are assumed to be JSON.
+     *
+     * @throws IOException if the file cannot be read.
+     */
+    static DataFileFormat detect(Path filePath) throws IOException {
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            return DataFileFormat.BINARY;
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            boolean isManifest = parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && JsonShardManifest.VERSION_FIELD.equals(parser.getCurrentName());
+            return isManifest ? DataFileFormat.SHARDED : DataFileFormat.JSON;
+        } catch (IOException e) {
+            // Malformed JSON is reported when the file is read as JSON
+            return DataFileFormat.JSON;
+        }
+    }
+
+    /**
+     * Reads the data file at {@code filePath} in {@code format}, passing the persons read to
+     * {@code loadedPersonsHandler} in batches.
+     */
+    static Optional<ReadOnlyAddressBook> read(Path filePath, DataFileFormat format,
+            Consumer<List<Person>> loadedPersonsHandler) throws DataConversionException, IOException {
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(filePath).readAddressBook(filePath, loadedPersonsHandler);
+        case SHARDED:
+            return new ShardedAddressBookStorage(filePath).readAddressBook(filePath, loadedPersonsHandler);
+        case JSON:
+        default:
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath, loadedPersonsHandler);
+        }
+    }
+}
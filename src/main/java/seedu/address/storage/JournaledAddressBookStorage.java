@@ -0,0 +1,358 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.group.GroupHashMap.DEFAULT_GROUP_NAME;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A storage that saves an address book as a full snapshot in another {@code AddressBookStorage}, followed by a
+ * journal of the changes made since the snapshot.
+ * Each save only appends the persons and groups that changed since the previous save to the journal, so that saving
+ * after a command writes in proportion to the change rather than to the whole address book. The snapshot is only
+ * rewritten when the journal grows past a size threshold, when the changes cannot be described by the journal,
+ * or when the storage is flushed.
+ * The journal of a data file is kept next to it, with {@link #JOURNAL_FILE_SUFFIX} appended to its file name.
+ * A journal starts with the hash of the snapshot it applies to, so that a journal left behind when the application
+ * stops after saving a new snapshot but before deleting the journal is not replayed onto the new snapshot.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 256 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final long compactionThreshold;
+
+    /** File path, contents and journal size of the data file last read or saved, if it is known to be intact. */
+    private Path lastFilePath;
+    private AddressBookSnapshot lastSaved;
+    private long journalSize;
+    /** Hash of the snapshot at {@code lastFilePath}, computed when it is first needed. */
+    private String snapshotId;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps snapshots in {@code snapshotStorage} and compacts
+     * the journal into a new snapshot once it is larger than {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, long compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Returns the path of the journal of the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal onto it.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        return readAddressBook(filePath, unused -> { });
+    }
+
+    /**
+     * Similar to {@link #readAddressBook(Path)}.
+     * Only the persons of the snapshot are passed to {@code loadedPersonsHandler}, as the journal is replayed once
+     * the whole snapshot has been read.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath,
+            Consumer<List<Person>> loadedPersonsHandler) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        lastSaved = null;
+        snapshotId = null;
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath, loadedPersonsHandler);
+        Path journalFilePath = getJournalFilePath(filePath);
+        if (!Files.exists(journalFilePath)) {
+            snapshot.ifPresent(addressBook -> remember(filePath, addressBook, 0));
+            return snapshot;
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        Optional<String> journalSnapshotId = readSnapshotId(lines);
+        // journals written before they started with a snapshot id are always replayed
+        if (journalSnapshotId.isPresent() && (!snapshot.isPresent()
+                || !journalSnapshotId.get().equals(getSnapshotId(filePath)))) {
+            logger.warning("Ignoring journal " + journalFilePath + " of a previous snapshot");
+            // the stale journal is overwritten by the next save
+            snapshot.ifPresent(addressBook -> remember(filePath, addressBook, 0));
+            return snapshot;
+        }
+
+        AddressBook addressBook = replay(snapshot.orElseGet(AddressBook::new), lines);
+        logger.fine("Replayed " + lines.size() + " journal entries from " + journalFilePath);
+        remember(filePath, addressBook, Files.size(journalFilePath));
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Appends the changes to {@code addressBook} since it was last read or saved at {@code filePath} to the journal,
+     * or saves a new snapshot if the changes cannot be appended or the journal has grown too large.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        AddressBookSnapshot toSave = snapshotOf(addressBook);
+        Optional<List<JsonAdaptedJournalEntry>> changes = filePath.equals(lastFilePath) && lastSaved != null
+                ? diff(lastSaved, toSave)
+                : Optional.empty();
+        if (!changes.isPresent()) {
+            saveSnapshot(toSave, filePath);
+            return;
+        }
+        if (changes.get().isEmpty()) {
+            lastSaved = toSave;
+            return;
+        }
+
+        boolean isNewJournal = journalSize == 0;
+        StringBuilder lines = new StringBuilder();
+        if (isNewJournal) {
+            lines.append(JsonUtil.toCompactJsonString(JsonAdaptedJournalEntry.snapshot(getSnapshotId(filePath))))
+                    .append('\n');
+        }
+        for (JsonAdaptedJournalEntry change : changes.get()) {
+            lines.append(JsonUtil.toCompactJsonString(change)).append('\n');
+        }
+        byte[] bytes = lines.toString().getBytes(StandardCharsets.UTF_8);
+
+        lastSaved = null;
+        FileUtil.createParentDirsOfFile(filePath);
+        if (isNewJournal) {
+            // replaces any journal of a previous snapshot
+            Files.write(getJournalFilePath(filePath), bytes);
+        } else {
+            Files.write(getJournalFilePath(filePath), bytes, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+        remember(filePath, toSave, journalSize + bytes.length);
+
+        if (journalSize > compactionThreshold) {
+            saveSnapshot(toSave, filePath);
+        }
+    }
+
+    /**
+     * Compacts the journal of the data file last read or saved into a new snapshot.
+     */
+    @Override
+    public synchronized void flush() throws IOException {
+        if (lastSaved != null && journalSize > 0) {
+            saveSnapshot(lastSaved, lastFilePath);
+        }
+    }
+
+    /**
+     * Saves {@code addressBook} as a new snapshot at {@code filePath}, and deletes its journal.
+     * The snapshot storage replaces the data file in a single move. If the journal is not deleted after that, it is
+     * ignored when read, as it starts with the id of the previous snapshot.
+     */
+    private void saveSnapshot(AddressBookSnapshot addressBook, Path filePath) throws IOException {
+        lastSaved = null;
+        snapshotId = null;
+        snapshotStorage.saveAddressBook(addressBook, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+        remember(filePath, addressBook, 0);
+        logger.fine("Saved snapshot of address book to " + filePath);
+    }
+
+    /**
+     * Returns the id of the snapshot at {@code filePath}, which is the hash of the data file.
+     */
+    private String getSnapshotId(Path filePath) throws IOException {
+        if (snapshotId == null) {
+            snapshotId = FileUtil.hashFile(filePath);
+        }
+        return snapshotId;
+    }
+
+    /**
+     * Returns the snapshot id that the journal in {@code lines} starts with, if any.
+     */
+    private static Optional<String> readSnapshotId(List<String> lines) {
+        if (lines.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            return JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalEntry.class).getSnapshotId();
+        } catch (IOException e) {
+            // reported when the journal is replayed
+            return Optional.empty();
+        }
+    }
+
+    private void remember(Path filePath, ReadOnlyAddressBook addressBook, long journalSize) {
+        this.lastFilePath = filePath;
+        this.lastSaved = snapshotOf(addressBook);
+        this.journalSize = journalSize;
+    }
+
+    private static AddressBookSnapshot snapshotOf(ReadOnlyAddressBook addressBook) {
+        return addressBook instanceof AddressBookSnapshot
+                ? (AddressBookSnapshot) addressBook
+                : new AddressBookSnapshot(addressBook);
+    }
+
+    /**
+     * Returns the journal entries that change {@code before} into {@code after}, or {@code Optional.empty()} if
+     * {@code after} reorders the persons in {@code before}, which the journal cannot describe.
+     * Persons are immutable, so unchanged persons are found by identity before falling back to equality.
+     */
+    private static Optional<List<JsonAdaptedJournalEntry>> diff(AddressBookSnapshot before,
+            AddressBookSnapshot after) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+
+        Map<Name, Person> personsAfter = new HashMap<>();
+        for (Person person : after.getPersonList()) {
+            personsAfter.put(person.getName(), person);
+        }
+        List<Person> kept = new ArrayList<>();
+        for (Person person : before.getPersonList()) {
+            if (personsAfter.containsKey(person.getName())) {
+                kept.add(person);
+            } else {
+                entries.add(JsonAdaptedJournalEntry.removePerson(person.getName()));
+            }
+        }
+
+        // Persons kept from before must stay in the same order, with new persons inserted between them
+        Map<Name, Person> keptByName = new HashMap<>();
+        kept.forEach(person -> keptByName.put(person.getName(), person));
+        int nextKept = 0;
+        List<Person> personList = after.getPersonList();
+        for (int i = 0; i < personList.size(); i++) {
+            Person person = personList.get(i);
+            if (nextKept < kept.size() && kept.get(nextKept).getName().equals(person.getName())) {
+                Person previous = kept.get(nextKept++);
+                if (previous != person && !previous.equals(person)) {
+                    entries.add(JsonAdaptedJournalEntry.putPerson(i, person));
+                }
+            } else if (keptByName.containsKey(person.getName())) {
+                return Optional.empty();
+            } else {
+                entries.add(JsonAdaptedJournalEntry.putPerson(i, person));
+            }
+        }
+
+        Map<Name, Group> groupsAfter = after.getGroupMap();
+        for (Name groupName : before.getGroupMap().keySet()) {
+            if (!groupsAfter.containsKey(groupName)) {
+                entries.add(JsonAdaptedJournalEntry.removeGroup(groupName));
+            }
+        }
+        for (Group group : groupsAfter.values()) {
+            if (group.getName().equals(DEFAULT_GROUP_NAME)) {
+                continue;
+            }
+            Group previous = before.getGroupMap().get(group.getName());
+            if (previous == null || !previous.getPersonNames().equals(group.getPersonNames())) {
+                entries.add(JsonAdaptedJournalEntry.putGroup(group));
+            }
+        }
+
+        return Optional.of(entries);
+    }
+
+    /**
+     * Returns {@code snapshot} with the journal entries in {@code lines} applied to it.
+     * A malformed last line is ignored, as it is likely to be from a save that was cut short.
+     *
+     * @throws DataConversionException if any other line is not a valid journal entry.
+     */
+    private static AddressBook replay(ReadOnlyAddressBook snapshot, List<String> lines)
+            throws DataConversionException {
+        List<Person> persons = new ArrayList<>(snapshot.getPersonList());
+        Map<Name, Person> personsByName = new HashMap<>();
+        persons.forEach(person -> personsByName.put(person.getName(), person));
+        Map<Name, Group> groups = new HashMap<>(snapshot.getGroupMap());
+
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            if (line.isBlank()) {
+                continue;
+            }
+
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last journal entry: " + e.getMessage());
+                    break;
+                }
+                throw new DataConversionException(e);
+            }
+
+            try {
+                entry.applyTo(persons, personsByName, groups);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in journal: " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+
+        // The default group is rebuilt by setPersons
+        HashMap<Name, Group> modelGroups = new HashMap<>(addressBook.getGroupMap());
+        groups.forEach((groupName, group) -> {
+            if (!groupName.equals(DEFAULT_GROUP_NAME)) {
+                modelGroups.put(groupName, group);
+            }
+        });
+        addressBook.setGroups(modelGroups);
+        return addressBook;
+    }
+}
@@ -5,7 +5,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_DESERIALIZE_ERROR_DUMP
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.Set;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -69,30 +69,29 @@ public class JsonAdaptedGroup {
             throw internalIllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
 
-        return new Name(trimmedName);
+        return Name.of(trimmedName);
     }
 
     /**
      * Converts this Jackson-friendly adapted group object into the model's {@code Group} object.
-     * Requires list of person to construct group list.
+     * Requires the persons of the address book, keyed by name, to construct group list.
      *
-     * @param personList actual personList serialised from json file.
+     * @param personsByName actual persons serialised from json file, keyed by their name.
      * @throws IllegalValueException if there were any data constraints violated in the adapted group.
      */
-    public Group toModelType(List<Person> personList) throws IllegalValueException {
+    public Group toModelType(Map<Name, Person> personsByName) throws IllegalValueException {
         final Name modelName = deserializeName(groupName);
 
         final Set<Name> modelPersonNameSet = new HashSet<>();
         for (String personName : personNames) {
             final Name modelPersonName = deserializeName(personName);
 
-            Optional<Person> optionalPerson;
-            // Go through Name#equals method to ignore case
-            optionalPerson = personList.stream().filter(x -> x.getName().equals(modelPersonName)).findFirst();
-            if (optionalPerson.isEmpty()) {
+            // Name#equals and Name#hashCode ignore case
+            Person person = personsByName.get(modelPersonName);
+            if (person == null) {
                 throw internalIllegalValueException(MESSAGE_INVALID_PERSON);
             }
-            modelPersonNameSet.add(optionalPerson.get().getName());
+            modelPersonNameSet.add(person.getName());
         }
         return new Group(modelName, modelPersonNameSet);
     }
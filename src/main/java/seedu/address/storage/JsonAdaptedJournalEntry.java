@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a change to an address book, as recorded in the journal of
+ * {@link JournaledAddressBookStorage}.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MESSAGE_INVALID_ENTRY = "Journal contains an invalid entry: %s";
+
+    static final String PUT_PERSON = "putPerson";
+    static final String REMOVE_PERSON = "removePerson";
+    static final String PUT_GROUP = "putGroup";
+    static final String REMOVE_GROUP = "removeGroup";
+    static final String SNAPSHOT = "snapshot";
+
+    private final String operation;
+    private final Integer index;
+    private final JsonAdaptedPerson person;
+    private final String name;
+    private final JsonAdaptedGroup group;
+    private final String snapshot;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("operation") String operation, @JsonProperty("index") Integer index,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("name") String name,
+            @JsonProperty("group") JsonAdaptedGroup group, @JsonProperty("snapshot") String snapshot) {
+        this.operation = operation;
+        this.index = index;
+        this.person = person;
+        this.name = name;
+        this.group = group;
+        this.snapshot = snapshot;
+    }
+
+    /**
+     * Returns an entry that puts {@code person} at {@code index} of the person list, replacing the person there if
+     * they have the same name.
+     */
+    static JsonAdaptedJournalEntry putPerson(int index, Person person) {
+        return new JsonAdaptedJournalEntry(PUT_PERSON, index, new JsonAdaptedPerson(person), null, null, null);
+    }
+
+    /**
+     * Returns an entry that removes the person named {@code personName}.
+     */
+    static JsonAdaptedJournalEntry removePerson(Name personName) {
+        return new JsonAdaptedJournalEntry(REMOVE_PERSON, null, null, personName.fullName, null, null);
+    }
+
+    /**
+     * Returns an entry that adds {@code group}, replacing any group with the same name.
+     */
+    static JsonAdaptedJournalEntry putGroup(Group group) {
+        return new JsonAdaptedJournalEntry(PUT_GROUP, null, null, null, new JsonAdaptedGroup(group), null);
+    }
+
+    /**
+     * Returns an entry that removes the group named {@code groupName}.
+     */
+    static JsonAdaptedJournalEntry removeGroup(Name groupName) {
+        return new JsonAdaptedJournalEntry(REMOVE_GROUP, null, null, groupName.fullName, null, null);
+    }
+
+    /**
+     * Returns an entry that records the id of the snapshot that the journal starting with it applies to.
+     */
+    static JsonAdaptedJournalEntry snapshot(String snapshotId) {
+        return new JsonAdaptedJournalEntry(SNAPSHOT, null, null, null, null, snapshotId);
+    }
+
+    /**
+     * Returns the id of the snapshot recorded by this entry, or {@code Optional.empty()} if it is not a snapshot
+     * entry.
+     */
+    Optional<String> getSnapshotId() {
+        return SNAPSHOT.equals(operation) ? Optional.ofNullable(snapshot) : Optional.empty();
+    }
+
+    /**
+     * Applies this change to {@code persons}, {@code personsByName} and {@code groups}.
+     * {@code personsByName} must contain exactly the persons in {@code persons}, and is kept that way.
+     *
+     * @throws IllegalValueException if this entry is invalid or does not apply to the given persons and groups.
+     */
+    public void applyTo(List<Person> persons, Map<Name, Person> personsByName, Map<Name, Group> groups)
+            throws IllegalValueException {
+        if (operation == null) {
+            throw invalidEntryException();
+        }
+
+        switch (operation) {
+        case PUT_PERSON:
+            applyPutPerson(persons, personsByName);
+            break;
+        case REMOVE_PERSON:
+            Person toRemove = personsByName.remove(deserializeName());
+            if (toRemove == null) {
+                throw invalidEntryException();
+            }
+            persons.remove(toRemove);
+            break;
+        case PUT_GROUP:
+            if (group == null) {
+                throw invalidEntryException();
+            }
+            Group toPut = group.toModelType(personsByName);
+            groups.put(toPut.getName(), toPut);
+            break;
+        case REMOVE_GROUP:
+            if (groups.remove(deserializeName()) == null) {
+                throw invalidEntryException();
+            }
+            break;
+        case SNAPSHOT:
+            // checked against the snapshot before the journal is replayed
+            break;
+        default:
+            throw invalidEntryException();
+        }
+    }
+
+    private void applyPutPerson(List<Person> persons, Map<Name, Person> personsByName)
+            throws IllegalValueException {
+        if (index == null || person == null || index < 0 || index > persons.size()) {
+            throw invalidEntryException();
+        }
+
+        Person toPut = person.toModelType();
+        boolean isReplacement = index < persons.size() && persons.get(index).getName().equals(toPut.getName());
+        if (isReplacement) {
+            persons.set(index, toPut);
+        } else if (personsByName.containsKey(toPut.getName())) {
+            throw invalidEntryException();
+        } else {
+            persons.add(index, toPut);
+        }
+        personsByName.put(toPut.getName(), toPut);
+    }
+
+    private Name deserializeName() throws IllegalValueException {
+        if (name == null || !Name.isValidName(name.trim())) {
+            throw invalidEntryException();
+        }
+        return Name.of(name.trim());
+    }
+
+    private IllegalValueException invalidEntryException() {
+        return new IllegalValueException(String.format(MESSAGE_INVALID_ENTRY, this));
+    }
+
+    @Override
+    public String toString() {
+        return "JsonAdaptedJournalEntry{"
+                + "operation='" + operation + '\''
+                + ", index=" + index
+                + ", person=" + person
+                + ", name='" + name + '\''
+                + ", group=" + group
+                + ", snapshot='" + snapshot + '\''
+                + '}';
+    }
+}
@@ -197,7 +197,7 @@ class JsonAdaptedPerson {
         if (!Name.isValidName(trimmedName)) {
             throw internalIllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(trimmedName);
+        final Name modelName = Name.of(trimmedName);
 
         if (phone == null) {
             throw internalIllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
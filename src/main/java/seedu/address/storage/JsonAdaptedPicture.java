@@ -19,13 +19,18 @@ public class JsonAdaptedPicture {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAdaptedPicture.class);
     private final Path filePath;
+    private final Path thumbnailFilePath;
 
     /**
      * Constructs a {@code JsonAdaptedPicture} with the given args.
+     * Data saved before pictures had thumbnails has no {@code thumbnailFilePath}, so the picture gets the default
+     * thumbnail path, and the thumbnail is created when the picture is first shown.
      */
     @JsonCreator
-    public JsonAdaptedPicture(@JsonProperty("filePath") Path filePath) {
+    public JsonAdaptedPicture(@JsonProperty("filePath") Path filePath,
+            @JsonProperty("thumbnailFilePath") Path thumbnailFilePath) {
         this.filePath = filePath;
+        this.thumbnailFilePath = thumbnailFilePath;
     }
 
     /**
@@ -33,6 +38,7 @@ public class JsonAdaptedPicture {
      */
     public JsonAdaptedPicture(Picture source) {
         filePath = source.getFilePath();
+        thumbnailFilePath = source.getThumbnailFilePath();
     }
 
     private IllegalValueException internalIllegalValueException(String message) {
@@ -49,13 +55,17 @@ public class JsonAdaptedPicture {
             throw internalIllegalValueException(this.filePath + " " + Picture.MESSAGE_CONSTRAINTS);
         }
 
-        return new Picture(filePath);
+        if (thumbnailFilePath == null) {
+            return new Picture(filePath);
+        }
+        return new Picture(filePath, thumbnailFilePath);
     }
 
     @Override
     public String toString() {
         return "JsonAdaptedPicture{"
                 + "filePath=" + filePath
+                + ", thumbnailFilePath=" + thumbnailFilePath
                 + "}";
     }
 }
@@ -3,16 +3,24 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
@@ -22,9 +30,21 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
+    private final JsonPersonFragmentCache personFragments;
 
-    public JsonAddressBookStorage(Path filePath) {
+    /**
+     * Creates a {@code JsonAddressBookStorage} for the file at {@code filePath}, which is saved indented over multiple
+     * lines if {@code isPrettyPrinted} is true, or on a single line otherwise.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+        this.personFragments = new JsonPersonFragmentCache(isPrettyPrinted);
+    }
+
+    public JsonAddressBookStorage(Path filePath) {
+        this(filePath, true);
     }
 
     public Path getAddressBookFilePath() {
@@ -38,21 +58,42 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}.
+     * The file is streamed and converted one person at a time, so it is never held in memory as a whole.
+     * Files saved in other formats are read as well, so that the data file can be converted between formats by
+     * changing the format in the user prefs.
      *
      * @param filePath location of the data. Cannot be null.
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException {
+        return readAddressBook(filePath, unused -> { });
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath, Consumer<List<Person>> loadedPersonsHandler)
+            throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            DataFileFormat format = DataFileFormatDetector.detect(filePath);
+            if (format != DataFileFormat.JSON) {
+                return DataFileFormatDetector.read(filePath, format, loadedPersonsHandler);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from file " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        }
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.read(parser, loadedPersonsHandler));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataConversionException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -66,15 +107,27 @@ public class JsonAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Persons are converted and written to the file one at a time, and persons saved before by this storage are
+     * copied from their JSON as it was last saved instead of being converted again.
      *
      * @param filePath location of the data. Cannot be null.
      */
-    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.writeAtomically(filePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+                JsonSerializableAddressBook.write(addressBook, generator, personFragments);
+            }
+        });
+    }
+
+    /**
+     * Does nothing, as saves are fully written before they return.
+     */
+    @Override
+    public void flush() {
     }
 
 }
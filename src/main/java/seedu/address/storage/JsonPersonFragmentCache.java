@@ -0,0 +1,90 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.person.Person;
+
+/**
+ * Keeps the JSON of every person written by {@link JsonSerializableAddressBook#write}, so that the next write only
+ * converts and serializes the persons that changed, and copies the JSON of the others as it is.
+ * Persons are immutable, so the JSON of a person is cached for as long as the same {@code Person} instance is in the
+ * address book, and dropped once it is replaced or removed.
+ * Not thread-safe, and meant to be used by a single storage.
+ */
+class JsonPersonFragmentCache {
+
+    private final boolean isPrettyPrinted;
+    private Map<Person, String> fragments = new IdentityHashMap<>();
+
+    /**
+     * Creates an empty cache for JSON written indented over multiple lines if {@code isPrettyPrinted} is true, or
+     * on a single line otherwise.
+     */
+    JsonPersonFragmentCache(boolean isPrettyPrinted) {
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    /**
+     * Writes {@code persons} to {@code generator} as the elements of the persons array of an address book, from the
+     * cache where possible.
+     *
+     * @param generator must be inside the persons array, and write with the same pretty printing as this cache.
+     */
+    void writePersons(List<Person> persons, JsonGenerator generator) throws IOException {
+        Map<Person, String> writtenFragments = new IdentityHashMap<>();
+        try (FragmentWriter fragmentWriter = new FragmentWriter()) {
+            for (Person person : persons) {
+                String fragment = fragments.get(person);
+                if (fragment == null) {
+                    fragment = fragmentWriter.write(person);
+                }
+                generator.writeRawValue(fragment);
+                writtenFragments.put(person, fragment);
+            }
+        }
+        fragments = writtenFragments;
+    }
+
+    /**
+     * Serializes persons in memory exactly as they are written in the persons array of an address book, including the
+     * indentation of pretty printed JSON.
+     */
+    private class FragmentWriter implements AutoCloseable {
+
+        private StringWriter writer;
+        private JsonGenerator generator;
+
+        /**
+         * Returns the JSON of {@code person}, without the separator before it.
+         */
+        String write(Person person) throws IOException {
+            if (generator == null) {
+                writer = new StringWriter();
+                generator = JsonUtil.createGenerator(writer, isPrettyPrinted);
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(JsonSerializableAddressBook.PERSONS_FIELD);
+            }
+
+            generator.flush();
+            int start = writer.getBuffer().length();
+            generator.writeObject(new JsonAdaptedPerson(person));
+            generator.flush();
+            // Persons are JSON objects, so the separator ends where the object starts
+            return writer.getBuffer().substring(writer.getBuffer().indexOf("{", start));
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (generator != null) {
+                generator.close();
+            }
+        }
+    }
+}
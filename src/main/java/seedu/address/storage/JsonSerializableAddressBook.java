@@ -1,14 +1,18 @@
 package seedu.address.storage;
 
-import static seedu.address.model.group.GroupHashMap.DEFAULT_GROUP_NAME;
-
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -24,6 +28,10 @@ class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATES_IN_PERSONS = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATES_IN_GROUPS = "Groups list contains duplicate group(s).";
+    public static final String MESSAGE_NOT_AN_OBJECT = "Address book data must be a JSON object.";
+
+    static final String PERSONS_FIELD = "persons";
+    private static final String GROUPS_FIELD = "groups";
 
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedGroup> groups = new ArrayList<>();
@@ -51,39 +59,71 @@ class JsonSerializableAddressBook {
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * All persons are converted and checked for duplicates before being installed into the address book in a
+     * single step, followed by all groups.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-
+        AddressBookAssembler assembler = new AddressBookAssembler();
         for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            if (jsonAdaptedPerson == null) {
-                continue;
-            }
+            assembler.addPerson(jsonAdaptedPerson);
+        }
+        groups.forEach(assembler::addGroup);
+        return assembler.toModelType();
+    }
 
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATES_IN_PERSONS);
-            }
-            addressBook.addPerson(person);
+    /**
+     * Writes {@code source} to {@code generator} in the same format as this class, converting one person at a time
+     * instead of the whole address book at once.
+     * Only the persons not written since the last write with {@code personFragments} are converted, and the JSON of
+     * the other persons is copied from {@code personFragments}.
+     */
+    static void write(ReadOnlyAddressBook source, JsonGenerator generator, JsonPersonFragmentCache personFragments)
+            throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart(PERSONS_FIELD);
+        personFragments.writePersons(source.getPersonList(), generator);
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(GROUPS_FIELD);
+        for (Group group : source.getGroupMap().values()) {
+            generator.writeObject(new JsonAdaptedGroup(group));
         }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
 
-        for (JsonAdaptedGroup jsonAdaptedGroup : groups) {
-            if (jsonAdaptedGroup == null) {
-                continue;
-            }
+    /**
+     * Reads an address book in the format of this class from {@code parser}, converting each person into the model's
+     * {@code Person} as soon as it is read instead of reading the whole file first.
+     * The persons are also passed to {@code loadedPersonsHandler} in batches as they are converted.
+     *
+     * @throws IOException if the JSON is malformed or not in the format of this class.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(JsonParser parser, Consumer<List<Person>> loadedPersonsHandler)
+            throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+        }
 
-            Group group = jsonAdaptedGroup.toModelType(addressBook.getPersonList());
-            if (!group.getName().equals(DEFAULT_GROUP_NAME) && addressBook.hasGroupName(group.getName())) {
-                throw new IllegalValueException(MESSAGE_DUPLICATES_IN_GROUPS);
-            }
-            if (!group.getName().equals(DEFAULT_GROUP_NAME)) {
-                addressBook.addGroup(group);
+        AddressBookAssembler assembler = new AddressBookAssembler(loadedPersonsHandler);
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (PERSONS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    assembler.addPerson(parser.readValueAs(JsonAdaptedPerson.class));
+                }
+            } else if (GROUPS_FIELD.equals(fieldName) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    assembler.addGroup(parser.readValueAs(JsonAdaptedGroup.class));
+                }
+            } else {
+                parser.skipChildren();
             }
         }
-
-        return addressBook;
+        return assembler.toModelType();
     }
 
 }
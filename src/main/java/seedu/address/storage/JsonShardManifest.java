@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly description of the shard files of an address book saved by {@link ShardedAddressBookStorage}.
+ * The version is written first, so that the format of a data file can be recognised from its first field.
+ * Since version 2, the manifest names the shard files and the groups file, so that a save can write new files
+ * next to the ones in use and switch over to them by replacing the manifest alone. Version 1 manifests only held the
+ * number of shards, which were named by their position.
+ */
+@JsonPropertyOrder({JsonShardManifest.VERSION_FIELD, "shardSize", "shardCount", "generation", "shardFiles",
+        "groupsFile"})
+class JsonShardManifest {
+
+    public static final String VERSION_FIELD = "shardedFormatVersion";
+    public static final int VERSION = 2;
+    public static final int VERSION_WITH_NUMBERED_SHARDS = 1;
+    public static final String MESSAGE_INVALID_MANIFEST = "Shard manifest is invalid or of an unsupported version.";
+
+    private static final String NUMBERED_SHARD_FILE_PREFIX = "persons-";
+    private static final String NUMBERED_SHARD_FILE_SUFFIX = ".json";
+    private static final String NUMBERED_GROUPS_FILE_NAME = "groups.json";
+
+    /** File names must not point outside of the shard directory. */
+    private static final Pattern FILE_NAME = Pattern.compile("[\\w.-]+");
+
+    private final int shardedFormatVersion;
+    private final int shardSize;
+    private final int shardCount;
+    private final long generation;
+    private final List<String> shardFiles;
+    private final String groupsFile;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty(VERSION_FIELD) int shardedFormatVersion,
+            @JsonProperty("shardSize") int shardSize, @JsonProperty("shardCount") int shardCount,
+            @JsonProperty("generation") long generation, @JsonProperty("shardFiles") List<String> shardFiles,
+            @JsonProperty("groupsFile") String groupsFile) {
+        this.shardedFormatVersion = shardedFormatVersion;
+        this.shardSize = shardSize;
+        this.shardCount = shardCount;
+        this.generation = generation;
+        this.shardFiles = shardFiles;
+        this.groupsFile = groupsFile;
+    }
+
+    /**
+     * Constructs a manifest of the current version for the given shard files and groups file.
+     */
+    public JsonShardManifest(int shardSize, long generation, List<String> shardFiles, String groupsFile) {
+        this(VERSION, shardSize, shardFiles.size(), generation, new ArrayList<>(shardFiles), groupsFile);
+    }
+
+    /**
+     * Checks that this manifest can be read by this version of the app.
+     *
+     * @throws IllegalValueException if the manifest is of another version or has invalid values.
+     */
+    public void check() throws IllegalValueException {
+        if (shardSize <= 0 || shardCount < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+        }
+        if (shardedFormatVersion == VERSION_WITH_NUMBERED_SHARDS) {
+            return;
+        }
+        if (shardedFormatVersion != VERSION || generation < 0 || shardFiles == null || groupsFile == null
+                || shardFiles.size() != shardCount || !FILE_NAME.matcher(groupsFile).matches()
+                || !shardFiles.stream().allMatch(file -> file != null && FILE_NAME.matcher(file).matches())) {
+            throw new IllegalValueException(MESSAGE_INVALID_MANIFEST);
+        }
+    }
+
+    public int getShardSize() {
+        return shardSize;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    /**
+     * Returns the names of the shard files in the shard directory, in the order of their persons.
+     */
+    public List<String> getShardFiles() {
+        if (shardedFormatVersion != VERSION_WITH_NUMBERED_SHARDS) {
+            return shardFiles;
+        }
+        List<String> numberedShardFiles = new ArrayList<>();
+        for (int i = 0; i < shardCount; i++) {
+            numberedShardFiles.add(NUMBERED_SHARD_FILE_PREFIX + i + NUMBERED_SHARD_FILE_SUFFIX);
+        }
+        return numberedShardFiles;
+    }
+
+    /**
+     * Returns the name of the groups file in the shard directory.
+     */
+    public String getGroupsFile() {
+        return shardedFormatVersion == VERSION_WITH_NUMBERED_SHARDS ? NUMBERED_GROUPS_FILE_NAME : groupsFile;
+    }
+}
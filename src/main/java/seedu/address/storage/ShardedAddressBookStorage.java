@@ -0,0 +1,499 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.group.GroupHashMap.DEFAULT_GROUP_NAME;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as JSON files of up to a fixed number of persons each, called shards.
+ * The data file itself is a small manifest naming the shards and the file of the groups, which are kept in a
+ * directory next to it, with {@link #SHARD_DIRECTORY_SUFFIX} appended to its file name.
+ * Saving only writes the shards with persons that changed since the last save, as told by the modification stamps
+ * of the persons, so that a command that edits or removes one person only writes one shard. Changed shards and
+ * groups are written to new files named by the generation of the save, and the manifest is replaced last, so that
+ * the files named by the manifest always form a complete save. Files that the manifest no longer names are deleted
+ * after it is replaced.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String SHARD_DIRECTORY_SUFFIX = ".shards";
+    public static final int DEFAULT_SHARD_SIZE = 64;
+    public static final String MESSAGE_SHARD_NOT_AN_ARRAY = "Shard must be a JSON array.";
+
+    private static final String SHARD_FILE_PREFIX = "persons-";
+    private static final String GROUPS_FILE_PREFIX = "groups-";
+    private static final String FILE_SUFFIX = ".json";
+
+    /**
+     * Names of the files written by any save, with the generation of the save if they have one, including the
+     * temporary files left behind if the application stopped while writing them.
+     */
+    private static final Pattern SAVED_FILE_NAME = Pattern.compile(
+            "(?:persons-(?:(\\d{1,18})-)?\\d+|groups(?:-(\\d{1,18}))?)\\.json(?:\\.tmp)?");
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int shardSize;
+    private final boolean isPrettyPrinted;
+
+    /*
+     * The shards and the members of every group as last read or saved at savedFilePath, if the files named by the
+     * manifest are known to hold exactly these. Persons are immutable, so they are compared by reference.
+     */
+    private Path savedFilePath;
+    private List<Shard> savedShards;
+    private Map<Name, Set<Name>> savedGroups;
+    private String savedGroupsFile;
+    private long savedGeneration;
+    private long savedModificationStamp;
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the manifest at {@code filePath}, with up to
+     * {@code shardSize} persons in every shard.
+     */
+    public ShardedAddressBookStorage(Path filePath, int shardSize, boolean isPrettyPrinted) {
+        this.filePath = filePath;
+        this.shardSize = shardSize;
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    public ShardedAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_SHARD_SIZE, true);
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory of the shards of the data file at {@code filePath}.
+     */
+    public static Path getShardDirectory(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + SHARD_DIRECTORY_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Files saved in other formats are read as well, so that the data file can be converted between formats by
+     * changing the format in the user prefs.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the files are not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        return readAddressBook(filePath, unused -> { });
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath,
+            Consumer<List<Person>> loadedPersonsHandler) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        savedShards = null;
+
+        if (!Files.exists(filePath)) {
+            logger.info("Shard manifest " + filePath + " not found");
+            return Optional.empty();
+        }
+        DataFileFormat format = DataFileFormatDetector.detect(filePath);
+        if (format != DataFileFormat.SHARDED) {
+            return DataFileFormatDetector.read(filePath, format, loadedPersonsHandler);
+        }
+
+        Path shardDirectory = getShardDirectory(filePath);
+        AddressBookAssembler assembler = new AddressBookAssembler(loadedPersonsHandler);
+        List<Integer> shardSizes = new ArrayList<>();
+        JsonShardManifest manifest;
+        boolean hasGroupsFile;
+        try {
+            manifest = JsonUtil.readJsonFile(filePath, JsonShardManifest.class).get();
+            manifest.check();
+            for (String shardFile : manifest.getShardFiles()) {
+                shardSizes.add(readShard(shardDirectory.resolve(shardFile), assembler));
+            }
+            Path groupsFilePath = shardDirectory.resolve(manifest.getGroupsFile());
+            hasGroupsFile = Files.exists(groupsFilePath);
+            if (hasGroupsFile) {
+                readGroups(groupsFilePath, assembler);
+            }
+        } catch (IOException e) {
+            logger.warning("Error reading from shards of " + filePath + ": " + e);
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in shards of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+
+        AddressBook addressBook;
+        try {
+            addressBook = assembler.toModelType();
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in shards of " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+        rememberShards(filePath, addressBook, manifest, shardSizes, hasGroupsFile);
+        return Optional.of(addressBook);
+    }
+
+    private static int readShard(Path shardFilePath, AddressBookAssembler assembler)
+            throws IOException, IllegalValueException {
+        int personCount = 0;
+        try (JsonParser parser = JsonUtil.createParser(shardFilePath)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_SHARD_NOT_AN_ARRAY);
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonAdaptedPerson person = parser.readValueAs(JsonAdaptedPerson.class);
+                if (person != null) {
+                    assembler.addPerson(person);
+                    personCount++;
+                }
+            }
+        }
+        return personCount;
+    }
+
+    private static void readGroups(Path groupsFilePath, AddressBookAssembler assembler) throws IOException {
+        try (JsonParser parser = JsonUtil.createParser(groupsFilePath)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, MESSAGE_SHARD_NOT_AN_ARRAY);
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                assembler.addGroup(parser.readValueAs(JsonAdaptedGroup.class));
+            }
+        }
+    }
+
+    /**
+     * Remembers the shards of {@code addressBook} as read from the files named by {@code manifest}.
+     * Empty shards are left out, so that the next save that changes the files drops them from the manifest.
+     */
+    private void rememberShards(Path filePath, ReadOnlyAddressBook addressBook, JsonShardManifest manifest,
+            List<Integer> shardSizes, boolean hasGroupsFile) {
+        List<Person> persons = addressBook.getPersonList();
+        List<Shard> shards = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i < shardSizes.size(); i++) {
+            int end = start + shardSizes.get(i);
+            if (end > start) {
+                shards.add(new Shard(manifest.getShardFiles().get(i), persons.subList(start, end)));
+            }
+            start = end;
+        }
+
+        savedFilePath = filePath;
+        savedShards = shards;
+        savedGroups = copyGroups(addressBook);
+        savedGroupsFile = hasGroupsFile ? manifest.getGroupsFile() : null;
+        savedGeneration = manifest.getGeneration();
+        // Persons read are new to the app, so their stamps are all newer and the persons are compared instead
+        savedModificationStamp = Long.MIN_VALUE;
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the shards with persons modified or removed since the last save, the shards of persons added since then,
+     * and the groups if they were modified, are written. The manifest is then replaced to name the new files.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        boolean isFullSave = !filePath.equals(savedFilePath) || savedShards == null;
+        List<Shard> previousShards = isFullSave ? List.of() : savedShards;
+        savedShards = null;
+
+        Path shardDirectory = getShardDirectory(filePath);
+        Files.createDirectories(shardDirectory);
+        // new files never replace the files of a previous save, which stay in use until the manifest is replaced
+        long generation = (isFullSave ? findLatestGeneration(shardDirectory) : savedGeneration) + 1;
+
+        List<Person> persons = addressBook.getPersonList();
+        List<Shard> shards = new ArrayList<>();
+        int writtenShardCount = 0;
+        int start = 0;
+        int i = 0;
+        while (i < previousShards.size()) {
+            Shard previous = previousShards.get(i);
+            int end = start + previous.persons.size();
+            if (end <= persons.size() && !isModifiedSince(addressBook, start, end, savedModificationStamp)) {
+                shards.add(previous);
+                start = end;
+                i++;
+                continue;
+            }
+
+            // Persons are only ever added at the end, so what is left of previous shards i to j - 1 ends where the
+            // first person of previous shard j is now. If that person is gone as well, shard j is taken in too.
+            int j = i + 1;
+            int latestEnd = end;
+            end = persons.size();
+            while (j < previousShards.size()) {
+                int nextStart = indexOf(persons, previousShards.get(j).persons.get(0), start, latestEnd);
+                if (nextStart != -1) {
+                    end = nextStart;
+                    break;
+                }
+                latestEnd += previousShards.get(j).persons.size();
+                j++;
+            }
+
+            if (j == i + 1 && isSameShard(previous.persons, persons.subList(start, end))) {
+                shards.add(previous);
+            } else {
+                writtenShardCount += writeShards(shardDirectory, persons.subList(start, end), generation, shards);
+            }
+            start = end;
+            i = j;
+        }
+
+        if (start < persons.size()) {
+            // persons added since the last save fill up the last shard first
+            Shard last = shards.isEmpty() ? null : shards.get(shards.size() - 1);
+            if (last != null && last.persons.size() < shardSize) {
+                shards.remove(shards.size() - 1);
+                start -= last.persons.size();
+            }
+            writtenShardCount += writeShards(shardDirectory, persons.subList(start, persons.size()), generation,
+                    shards);
+        }
+
+        Map<Name, Set<Name>> groups = copyGroups(addressBook);
+        String groupsFile = isFullSave ? null : savedGroupsFile;
+        if (groupsFile == null || !groups.equals(savedGroups)) {
+            groupsFile = GROUPS_FILE_PREFIX + generation + FILE_SUFFIX;
+            writeGroups(shardDirectory.resolve(groupsFile), addressBook);
+        }
+
+        List<String> shardFiles = getFiles(shards);
+        boolean isChanged = isFullSave || !shardFiles.equals(getFiles(previousShards))
+                || !groupsFile.equals(savedGroupsFile);
+        if (isChanged) {
+            // the save takes effect once the manifest names the new files
+            JsonUtil.saveJsonFile(new JsonShardManifest(shardSize, generation, shardFiles, groupsFile), filePath);
+            Set<String> filesInUse = new HashSet<>(shardFiles);
+            filesInUse.add(groupsFile);
+            deleteFilesNotInUse(shardDirectory, filesInUse);
+            savedGeneration = generation;
+        }
+        logger.fine("Wrote " + writtenShardCount + " of " + shards.size() + " shards of " + filePath);
+
+        long modificationStamp = savedModificationStamp;
+        for (int k = 0; k < persons.size(); k++) {
+            modificationStamp = Math.max(modificationStamp, addressBook.getPersonModificationStamp(k));
+        }
+        savedFilePath = filePath;
+        savedShards = shards;
+        savedGroups = groups;
+        savedGroupsFile = groupsFile;
+        savedModificationStamp = modificationStamp;
+    }
+
+    /**
+     * Does nothing, as saves are fully written before they return.
+     */
+    @Override
+    public void flush() {
+    }
+
+    /**
+     * Returns true if any of the persons from {@code start} to {@code end} in {@code addressBook}, or any person
+     * right before them, was modified or removed after {@code modificationStamp}.
+     */
+    private static boolean isModifiedSince(ReadOnlyAddressBook addressBook, int start, int end,
+            long modificationStamp) {
+        for (int i = start; i < end; i++) {
+            if (addressBook.getPersonModificationStamp(i) > modificationStamp) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the position of {@code person} in {@code persons} from {@code from} to {@code to} inclusive, comparing
+     * persons by reference, or -1 if it is not there.
+     * The search starts from {@code to}, where the person is if no person before it was removed.
+     */
+    private static int indexOf(List<Person> persons, Person person, int from, int to) {
+        for (int i = Math.min(to, persons.size() - 1); i >= from; i--) {
+            if (persons.get(i) == person) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isSameShard(List<Person> shard, List<Person> otherShard) {
+        if (shard.size() != otherShard.size()) {
+            return false;
+        }
+        for (int i = 0; i < shard.size(); i++) {
+            if (shard.get(i) != otherShard.get(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> getFiles(List<Shard> shards) {
+        List<String> files = new ArrayList<>();
+        shards.forEach(shard -> files.add(shard.file));
+        return files;
+    }
+
+    /**
+     * Returns the members of every group in {@code addressBook} except the default group, which is rebuilt when the
+     * persons are read.
+     */
+    private static Map<Name, Set<Name>> copyGroups(ReadOnlyAddressBook addressBook) {
+        Map<Name, Set<Name>> groups = new HashMap<>();
+        addressBook.getGroupMap().forEach((groupName, group) -> {
+            if (!groupName.equals(DEFAULT_GROUP_NAME)) {
+                groups.put(groupName, new HashSet<>(group.getPersonNames()));
+            }
+        });
+        return groups;
+    }
+
+    /**
+     * Writes {@code persons} to new shard files of up to {@code shardSize} persons each, named by
+     * {@code generation} and their position in {@code shards}, and adds the new shards to {@code shards}.
+     *
+     * @return the number of shard files written.
+     */
+    private int writeShards(Path shardDirectory, List<Person> persons, long generation, List<Shard> shards)
+            throws IOException {
+        int writtenShardCount = 0;
+        for (int i = 0; i < persons.size(); i += shardSize) {
+            Shard shard = new Shard(SHARD_FILE_PREFIX + generation + "-" + shards.size() + FILE_SUFFIX,
+                    persons.subList(i, Math.min(persons.size(), i + shardSize)));
+            writeShard(shardDirectory.resolve(shard.file), shard.persons);
+            shards.add(shard);
+            writtenShardCount++;
+        }
+        return writtenShardCount;
+    }
+
+    private void writeShard(Path shardFilePath, List<Person> shard) throws IOException {
+        FileUtil.writeAtomically(shardFilePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+                generator.writeStartArray();
+                for (Person person : shard) {
+                    generator.writeObject(new JsonAdaptedPerson(person));
+                }
+                generator.writeEndArray();
+            }
+        });
+    }
+
+    private void writeGroups(Path groupsFilePath, ReadOnlyAddressBook addressBook) throws IOException {
+        FileUtil.writeAtomically(groupsFilePath, out -> {
+            try (JsonGenerator generator = JsonUtil.createGenerator(out, isPrettyPrinted)) {
+                generator.writeStartArray();
+                for (Group group : addressBook.getGroupMap().values()) {
+                    if (!group.getName().equals(DEFAULT_GROUP_NAME)) {
+                        generator.writeObject(new JsonAdaptedGroup(group));
+                    }
+                }
+                generator.writeEndArray();
+            }
+        });
+    }
+
+    /**
+     * Returns the latest generation of the files saved in {@code shardDirectory}, or 0 if there are none.
+     */
+    private static long findLatestGeneration(Path shardDirectory) throws IOException {
+        long latestGeneration = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory)) {
+            for (Path file : files) {
+                Matcher matcher = SAVED_FILE_NAME.matcher(file.getFileName().toString());
+                if (!matcher.matches()) {
+                    continue;
+                }
+                String generation = matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+                if (generation != null) {
+                    latestGeneration = Math.max(latestGeneration, Long.parseLong(generation));
+                }
+            }
+        }
+        return latestGeneration;
+    }
+
+    /**
+     * Deletes the files of previous saves in {@code shardDirectory} that are not in {@code filesInUse}.
+     * Files that cannot be deleted are left for a later save, as the save itself is complete.
+     */
+    private static void deleteFilesNotInUse(Path shardDirectory, Set<String> filesInUse) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory)) {
+            for (Path file : files) {
+                String fileName = file.getFileName().toString();
+                if (SAVED_FILE_NAME.matcher(fileName).matches() && !filesInUse.contains(fileName)) {
+                    try {
+                        Files.deleteIfExists(file);
+                    } catch (IOException e) {
+                        logger.warning("Unable to delete unused shard file " + file + ": " + e);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * A shard file and the persons saved in it.
+     */
+    private static class Shard {
+        private final String file;
+        private final List<Person> persons;
+
+        Shard(String file, List<Person> persons) {
+            this.file = file;
+            this.persons = new ArrayList<>(persons);
+        }
+    }
+}
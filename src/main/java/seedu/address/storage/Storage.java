@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -29,4 +30,17 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Sets the handler of failures to save data that could not be reported to the caller of the save,
+     * e.g. because the data is saved in the background.
+     */
+    void setSaveFailureHandler(Consumer<IOException> handler);
+
+    /**
+     * Blocks until all data requested to be saved so far has been saved, and writes out any saved data that has not
+     * been fully written yet.
+     */
+    @Override
+    void flush() throws IOException;
+
 }
@@ -0,0 +1,48 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import javafx.animation.PauseTransition;
+import javafx.util.Duration;
+import seedu.address.commons.core.AppClock;
+
+/**
+ * Runs a task on the JavaFX application thread at the start of every day, so that date-dependent parts of the UI
+ * such as streaks do not go stale while the app is left open overnight.
+ */
+public class DayChangeScheduler {
+
+    /** Delay after midnight before the task is run, so that the current date has surely changed. */
+    private static final long MARGIN_MILLIS = 1000;
+
+    private final PauseTransition timer = new PauseTransition();
+
+    /**
+     * Creates a {@code DayChangeScheduler} that runs {@code onDayChange} once it is started.
+     */
+    public DayChangeScheduler(Runnable onDayChange) {
+        requireNonNull(onDayChange);
+        timer.setOnFinished(unused -> {
+            onDayChange.run();
+            scheduleNext();
+        });
+    }
+
+    public void start() {
+        scheduleNext();
+    }
+
+    public void stop() {
+        timer.stop();
+    }
+
+    private void scheduleNext() {
+        LocalDateTime now = LocalDateTime.now(AppClock.getClock());
+        LocalDateTime nextDay = now.toLocalDate().plusDays(1).atStartOfDay();
+        timer.setDuration(Duration.millis(now.until(nextDay, ChronoUnit.MILLIS) + MARGIN_MILLIS));
+        timer.playFromStart();
+    }
+}
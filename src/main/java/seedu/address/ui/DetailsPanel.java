@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.Set;
+import java.util.function.Function;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -8,6 +10,7 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.commons.core.DetailsPanelTab;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonEvent;
 import seedu.address.model.person.PersonStreak;
@@ -29,12 +32,13 @@ public class DetailsPanel extends UiPart<Region> {
      *
      * @param upcomingEventsList A list of upcoming events.
      * @param detailedPerson     A list containing a single {@code Person}.
+     * @param groupNamesOf       Returns the names of the groups a {@code Person} is in.
      */
-    public DetailsPanel(ObservableList<PersonEvent> upcomingEventsList,
-            ObservableList<Person> detailedPerson, ObservableList<PersonStreak> personStreaks) {
+    public DetailsPanel(ObservableList<PersonEvent> upcomingEventsList, ObservableList<Person> detailedPerson,
+            Function<Person, Set<Name>> groupNamesOf, ObservableList<PersonStreak> personStreaks) {
         super(FXML);
         upcomingEventsTab = new UpcomingEventsTab(upcomingEventsList);
-        personDetailsTab = new PersonDetailsTab(detailedPerson);
+        personDetailsTab = new PersonDetailsTab(detailedPerson, groupNamesOf);
         streaksTab = new StreaksTab(personStreaks);
 
         toggleTab(DetailsPanelTab.UPCOMING_EVENTS);
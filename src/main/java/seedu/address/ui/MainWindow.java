@@ -1,8 +1,10 @@
 package seedu.address.ui;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
@@ -38,7 +40,9 @@ public class MainWindow extends UiPart<Stage> {
     private GroupListPanel groupListPanel;
     private DetailsPanel detailsPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
+    private DayChangeScheduler dayChangeScheduler;
 
     @FXML
     private StackPane commandBoxPlaceholder;
@@ -134,7 +138,8 @@ public class MainWindow extends UiPart<Stage> {
         groupListPanel = new GroupListPanel(logic.getAddressBook().getGroupMap());
         groupListPanelPlaceholder.getChildren().add(groupListPanel.getRoot());
 
-        detailsPanel = new DetailsPanel(logic.getUpcomingDates(), logic.getDetailedPerson(), logic.getPersonStreaks());
+        detailsPanel = new DetailsPanel(logic.getUpcomingDates(), logic.getDetailedPerson(), logic::getGroupNamesOf,
+                logic.getPersonStreaks());
         detailsPanelPlaceholder.getChildren().add(detailsPanel.getRoot());
 
         personListPanel = new PersonListPanel(logic.getFilteredPersonList());
@@ -142,12 +147,23 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        dayChangeScheduler = new DayChangeScheduler(logic::updateToday);
+        dayChangeScheduler.start();
+    }
+
+    /**
+     * Shows how long it took to load the data in the status bar.
+     */
+    void showDataLoaded(Duration loadDuration) {
+        statusBarFooter.setDataLoaded(logic.getAddressBook().getPersonList().size(), loadDuration);
     }
 
     /**
@@ -184,6 +200,7 @@ public class MainWindow extends UiPart<Stage> {
     @FXML
     private void handleExit() {
         updateGuiSettings();
+        dayChangeScheduler.stop();
         helpWindow.hide();
         primaryStage.hide();
     }
@@ -10,6 +10,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import seedu.address.commons.core.AppClock;
 import seedu.address.commons.util.DateUtil;
 import seedu.address.model.person.Person;
 
@@ -70,10 +71,10 @@ public class PersonCard extends UiPart<Region> {
         if (person.getGoal().isNoneFrequency()) {
             goalText = "No goal set for this person";
         } else {
-            LocalDate deadline = person.getGoalDeadline(LocalDate.now());
+            LocalDate deadline = person.getGoalDeadline(AppClock.today());
             if (deadline.equals(DateUtil.ZERO_DAY)) {
                 goalText = "Yet to meet this person!";
-            } else if (deadline.plusDays(1).isAfter(LocalDate.now())) {
+            } else if (deadline.plusDays(1).isAfter(AppClock.today())) {
                 goalText = String.format("Deadline for goal: %s", DateUtil.toUi(deadline));
             } else {
                 goalText = String.format("Missed the deadline on :( %s", DateUtil.toUi(deadline));
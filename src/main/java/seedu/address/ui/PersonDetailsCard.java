@@ -1,6 +1,8 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
@@ -9,6 +11,7 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.VBox;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 public class PersonDetailsCard extends UiPart<Region> {
@@ -30,6 +33,8 @@ public class PersonDetailsCard extends UiPart<Region> {
     @FXML
     private Label birthday;
     @FXML
+    private Label groups;
+    @FXML
     private FlowPane tags;
     @FXML
     private VBox datesContainer;
@@ -39,9 +44,9 @@ public class PersonDetailsCard extends UiPart<Region> {
     private StackPane picturePlaceholder;
 
     /**
-     * Creates a {@code PersonDetailsCard} with the given {@code Person}.
+     * Creates a {@code PersonDetailsCard} with the given {@code Person} and the names of the groups they are in.
      */
-    public PersonDetailsCard(Person person) {
+    public PersonDetailsCard(Person person, Set<Name> groupNames) {
         super(FXML);
         this.person = person;
         name.setText(person.getName().fullName);
@@ -50,6 +55,10 @@ public class PersonDetailsCard extends UiPart<Region> {
         email.setText(person.getEmail().value);
         debt.setText("Debt: " + person.getDebt().toUi());
         birthday.setText(person.getBirthday().toUi());
+        groups.setText(groupNames.isEmpty() ? "Not in any group" : "Groups: " + groupNames.stream()
+                .map(Name::toString)
+                .sorted()
+                .collect(Collectors.joining(", ")));
         person.getTags().stream()
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
@@ -1,5 +1,8 @@
 package seedu.address.ui;
 
+import java.util.Set;
+import java.util.function.Function;
+
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
@@ -9,6 +12,7 @@ import javafx.scene.control.ListView;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 
 public class PersonDetailsTab extends UiPart<Region> {
@@ -24,12 +28,16 @@ public class PersonDetailsTab extends UiPart<Region> {
     @FXML
     private ListView<Person> personDetailsListView;
 
+    private final Function<Person, Set<Name>> groupNamesOf;
+
     /**
      * Creates a {@code PersonDetailsTab} with the given {@code ObservableList}.
      * @param detailedPerson A list containing a single {@code Person}.
+     * @param groupNamesOf Returns the names of the groups a {@code Person} is in.
      */
-    public PersonDetailsTab(ObservableList<Person> detailedPerson) {
+    public PersonDetailsTab(ObservableList<Person> detailedPerson, Function<Person, Set<Name>> groupNamesOf) {
         super(FXML);
+        this.groupNamesOf = groupNamesOf;
         personDetailsTitle.setText("Contact Details");
 
         //Prevent mouse selection
@@ -56,7 +64,7 @@ public class PersonDetailsTab extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonDetailsCard(person).getRoot());
+                setGraphic(new PersonDetailsCard(person, groupNamesOf.apply(person)).getRoot());
             }
         }
     }
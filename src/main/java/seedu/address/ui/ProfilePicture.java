@@ -1,15 +1,12 @@
 package seedu.address.ui;
 
-import java.io.File;
-import java.io.FileInputStream;
-import java.io.IOException;
 import java.util.Optional;
 
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
-import javafx.geometry.Rectangle2D;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.image.WritableImage;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
 import javafx.scene.shape.Rectangle;
@@ -20,6 +17,11 @@ public class ProfilePicture extends UiPart<Region> {
 
     private static final String FXML = "ProfilePicture.fxml";
 
+    /**
+     * Transparent image shown while the thumbnail of the picture is being decoded.
+     */
+    private static final Image PLACEHOLDER = new WritableImage(Picture.THUMBNAIL_SIZE, Picture.THUMBNAIL_SIZE);
+
     public final Person person;
 
     @FXML
@@ -37,33 +39,18 @@ public class ProfilePicture extends UiPart<Region> {
         Optional<Picture> personPicture = person.getPicture();
 
         if (personPicture.isPresent()) {
-            File imgFile = new File(personPicture.get().getAbsoluteFilePath());
-            try {
-                Image userImage = new Image(new FileInputStream(imgFile));
-                picture.setImage(userImage);
-
-                // Set viewport to center of image
-                if (userImage.getHeight() > userImage.getWidth()) {
-                    picture.setViewport(
-                            new Rectangle2D(0, (userImage.getHeight() - userImage.getWidth()) / 2,
-                                    userImage.getWidth(), userImage.getWidth()));
-                    picture.setFitWidth(100);
-                } else {
-                    picture.setViewport(
-                            new Rectangle2D((userImage.getWidth() - userImage.getHeight()) / 2, 0,
-                                    userImage.getHeight(), userImage.getHeight()));
-                    picture.setFitHeight(100);
-                }
+            // keep the space of the picture until its thumbnail is decoded, so that the card does not change size
+            picture.setImage(PLACEHOLDER);
+            picture.setFitWidth(Picture.THUMBNAIL_SIZE);
+            picture.setFitHeight(Picture.THUMBNAIL_SIZE);
+            ThumbnailCache.getInstance().requestThumbnail(personPicture.get(), picture::setImage);
 
-                Rectangle clip = new Rectangle();
-                clip.setWidth(100);
-                clip.setHeight(100);
-                clip.setArcHeight(100);
-                clip.setArcWidth(100);
-                picture.setClip(clip);
-            } catch (IOException e) {
-                throw new RuntimeException("Unable to read input stream for person");
-            }
+            Rectangle clip = new Rectangle();
+            clip.setWidth(Picture.THUMBNAIL_SIZE);
+            clip.setHeight(Picture.THUMBNAIL_SIZE);
+            clip.setArcHeight(Picture.THUMBNAIL_SIZE);
+            clip.setArcWidth(Picture.THUMBNAIL_SIZE);
+            picture.setClip(clip);
         } else {
             picture.setVisible(false);
             picture.setManaged(false);
@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -12,17 +13,31 @@ import javafx.scene.layout.Region;
  */
 public class StatusBarFooter extends UiPart<Region> {
 
+    public static final String MESSAGE_LOADING = "Loading data...";
+    public static final String MESSAGE_LOADED = "Loaded %1$d contacts in %2$d ms";
+
     private static final String FXML = "StatusBarFooter.fxml";
 
     @FXML
     private Label saveLocationStatus;
 
+    @FXML
+    private Label loadStatus;
+
     /**
-     * Creates a {@code StatusBarFooter} with the given {@code Path}.
+     * Creates a {@code StatusBarFooter} with the given {@code Path}, showing that the data is still being loaded.
      */
     public StatusBarFooter(Path saveLocation) {
         super(FXML);
         saveLocationStatus.setText(Paths.get(".").resolve(saveLocation).toString());
+        loadStatus.setText(MESSAGE_LOADING);
+    }
+
+    /**
+     * Shows that {@code personCount} contacts were loaded in {@code loadDuration}.
+     */
+    public void setDataLoaded(int personCount, Duration loadDuration) {
+        loadStatus.setText(String.format(MESSAGE_LOADED, personCount, loadDuration.toMillis()));
     }
 
 }
@@ -0,0 +1,169 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Picture;
+
+/**
+ * Caches the square thumbnails shown as profile pictures, so that a thumbnail file is decoded once rather than every
+ * time a card showing it is built.
+ * Only the small thumbnail files saved next to pictures are decoded, in the background.
+ * The least recently used thumbnails are dropped once the thumbnails cached take up more memory than the capacity.
+ * Thumbnails that cannot be created are cached as empty entries, so that a broken picture is not decoded again every
+ * time a card showing it is built. They take up no capacity, and are dropped like any other entry.
+ * Note that this class is a singleton, and must only be used from the JavaFX application thread.
+ */
+public class ThumbnailCache {
+
+    private static final Logger logger = LogsCenter.getLogger(ThumbnailCache.class);
+
+    private static final int BYTES_PER_PIXEL = 4;
+    private static final long MAX_CAPACITY_BYTES = 32 * 1024 * 1024;
+    private static final int DECODER_THREAD_COUNT = 2;
+
+    private static ThumbnailCache instance;
+
+    private final long capacityBytes;
+    /** Cached thumbnails, or empty for thumbnails that could not be created, from least to most recently used. */
+    private final Map<Path, Optional<Image>> thumbnails = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<Path, List<Consumer<Image>>> pendingRequests = new HashMap<>();
+    private final ExecutorService decoder = Executors.newFixedThreadPool(DECODER_THREAD_COUNT, runnable -> {
+        Thread thread = new Thread(runnable, "FriendDex thumbnail decoder");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private long sizeBytes = 0;
+
+    private ThumbnailCache(long capacityBytes) {
+        this.capacityBytes = capacityBytes;
+    }
+
+    /**
+     * Returns the ThumbnailCache associated with the current application instance.
+     * The cache takes up at most 32 MB, or a sixteenth of the maximum heap size if that is smaller.
+     */
+    public static ThumbnailCache getInstance() {
+        if (instance == null) {
+            instance = new ThumbnailCache(Math.min(MAX_CAPACITY_BYTES, Runtime.getRuntime().maxMemory() / 16));
+        }
+        return instance;
+    }
+
+    /**
+     * Passes the thumbnail of {@code picture} to {@code thumbnailHandler} on the JavaFX application thread.
+     * The handler is called right away if the thumbnail is cached, or once the thumbnail is decoded otherwise. It is
+     * not called if the thumbnail cannot be created, or could not be created before.
+     */
+    public void requestThumbnail(Picture picture, Consumer<Image> thumbnailHandler) {
+        requireNonNull(picture);
+        requireNonNull(thumbnailHandler);
+
+        Path key = picture.getThumbnailFilePath().toAbsolutePath();
+        Optional<Image> thumbnail = thumbnails.get(key);
+        if (thumbnail != null) {
+            thumbnail.ifPresent(thumbnailHandler);
+            return;
+        }
+
+        List<Consumer<Image>> handlers = pendingRequests.get(key);
+        if (handlers != null) {
+            // the thumbnail is already being decoded for another card
+            handlers.add(thumbnailHandler);
+            return;
+        }
+
+        handlers = new ArrayList<>();
+        handlers.add(thumbnailHandler);
+        pendingRequests.put(key, handlers);
+        decoder.execute(() -> {
+            Image decodedThumbnail = loadThumbnail(picture);
+            Platform.runLater(() -> handleDecodedThumbnail(key, decodedThumbnail));
+        });
+    }
+
+    /**
+     * Caches {@code thumbnail} and passes it to the handlers waiting for it.
+     * If {@code thumbnail} is null, as it could not be created, the failure is cached instead and the handlers are
+     * dropped without being called.
+     */
+    private void handleDecodedThumbnail(Path key, Image thumbnail) {
+        List<Consumer<Image>> handlers = pendingRequests.remove(key);
+        put(key, Optional.ofNullable(thumbnail));
+        if (thumbnail == null) {
+            return;
+        }
+
+        for (Consumer<Image> handler : handlers) {
+            handler.accept(thumbnail);
+        }
+    }
+
+    private void put(Path key, Optional<Image> thumbnail) {
+        sizeBytes += getSizeBytes(thumbnail);
+        thumbnails.put(key, thumbnail);
+
+        Iterator<Optional<Image>> leastRecentlyUsed = thumbnails.values().iterator();
+        // always keep the thumbnail just added
+        while (sizeBytes > capacityBytes && thumbnails.size() > 1) {
+            sizeBytes -= getSizeBytes(leastRecentlyUsed.next());
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    private static long getSizeBytes(Optional<Image> thumbnail) {
+        return thumbnail
+                .map(image -> (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL)
+                .orElse(0L);
+    }
+
+    /**
+     * Returns the thumbnail of {@code picture}, or null if it cannot be created.
+     * The thumbnail file is created first if it is missing, as it is for pictures added before thumbnails were
+     * saved, or if it cannot be read.
+     */
+    private static Image loadThumbnail(Picture picture) {
+        try {
+            if (!Files.exists(picture.getThumbnailFilePath())) {
+                picture.createThumbnail();
+            }
+
+            Image thumbnail = readImage(picture.getThumbnailFilePath());
+            if (thumbnail.isError()) {
+                picture.createThumbnail();
+                thumbnail = readImage(picture.getThumbnailFilePath());
+            }
+            if (thumbnail.isError()) {
+                throw new IOException(thumbnail.getException());
+            }
+            return thumbnail;
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Unable to load the thumbnail of " + picture.getFilePath() + ": " + e);
+            return null;
+        }
+    }
+
+    private static Image readImage(Path filePath) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(filePath)) {
+            return new Image(inputStream);
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.time.Duration;
+
 import javafx.stage.Stage;
 
 /**
@@ -10,4 +12,10 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Shows that the data loaded after the UI was started has been fully loaded, and how long it took to load.
+     * Must be called on the JavaFX application thread.
+     */
+    void showDataLoaded(Duration loadDuration);
+
 }
@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.time.Duration;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -71,6 +72,13 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showDataLoaded(Duration loadDuration) {
+        if (mainWindow != null) {
+            mainWindow.showDataLoaded(loadDuration);
+        }
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
@@ -0,0 +1,73 @@
+package seedu.address.commons.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class AppClockTest {
+
+    private static final Instant LAST_SECOND_OF_MARCH_1 = Instant.parse("2021-03-01T23:59:59Z");
+
+    @AfterEach
+    public void tearDown() {
+        AppClock.useSystemClock();
+    }
+
+    @Test
+    public void setClock_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AppClock.setClock(null));
+    }
+
+    @Test
+    public void today_fixedClock_returnsFixedDate() {
+        AppClock.setClock(Clock.fixed(LAST_SECOND_OF_MARCH_1, ZoneOffset.UTC));
+        assertEquals(LocalDate.of(2021, 3, 1), AppClock.today());
+
+        AppClock.setClock(Clock.fixed(LAST_SECOND_OF_MARCH_1, ZoneOffset.ofHours(8)));
+        assertEquals(LocalDate.of(2021, 3, 2), AppClock.today());
+    }
+
+    @Test
+    public void today_clockPassesMidnight_returnsNextDate() {
+        MovableClock clock = new MovableClock(LAST_SECOND_OF_MARCH_1);
+        AppClock.setClock(clock);
+        assertEquals(LocalDate.of(2021, 3, 1), AppClock.today());
+
+        clock.instant = LAST_SECOND_OF_MARCH_1.plusSeconds(1);
+        assertEquals(LocalDate.of(2021, 3, 2), AppClock.today());
+    }
+
+    /**
+     * A UTC clock that can be moved to any instant.
+     */
+    private static class MovableClock extends Clock {
+        private Instant instant;
+
+        MovableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
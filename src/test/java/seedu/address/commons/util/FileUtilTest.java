@@ -1,13 +1,20 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import seedu.address.model.person.Picture;
 
@@ -19,6 +26,9 @@ public class FileUtilTest {
     public static final Path PDF_FILE = Path.of("src", "test", "data", "FileTest", "pdf_file.pdf");
     public static final Path TEXT_FILE = Path.of("src", "test", "data", "FileTest", "text_file.txt");
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -44,4 +54,54 @@ public class FileUtilTest {
         assertFalse(assertDoesNotThrow(() -> FileUtil.hasMagicNumber(TEXT_FILE, Picture.IMAGE_MAGIC_NUMBERS)));
     }
 
+    @Test
+    public void hasMagicNumber_fileShorterThanMagicNumber_returnsFalse() throws Exception {
+        Path filePath = testFolder.resolve("short.png");
+        Files.write(filePath, new byte[] {(byte) 0x89, 0x50});
+        assertFalse(FileUtil.hasMagicNumber(filePath, Picture.IMAGE_MAGIC_NUMBERS));
+    }
+
+    @Test
+    public void readHeader() throws Exception {
+        byte[] content = Files.readAllBytes(PNG_FILE);
+
+        // reads only the first bytes
+        assertArrayEquals(Arrays.copyOf(content, 8), FileUtil.readHeader(PNG_FILE, 8));
+
+        // file shorter than the header -> whole file
+        assertArrayEquals(content, FileUtil.readHeader(PNG_FILE, content.length + 8));
+    }
+
+    @Test
+    public void writeAtomically_success_replacesFile() throws Exception {
+        Path file = testFolder.resolve("data").resolve("file.txt");
+        FileUtil.writeAtomically(file, out -> out.write(new byte[] {1, 2}));
+        FileUtil.writeAtomically(file, out -> out.write(new byte[] {3}));
+
+        assertArrayEquals(new byte[] {3}, Files.readAllBytes(file));
+        assertFalse(Files.exists(FileUtil.getTemporaryFile(file)));
+    }
+
+    @Test
+    public void writeAtomically_writeFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "previous content");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write(new byte[] {1, 2, 3});
+            throw new IOException("failed midway");
+        }));
+        assertEquals("previous content", FileUtil.readFromFile(file));
+        assertFalse(Files.exists(FileUtil.getTemporaryFile(file)));
+    }
+
+    @Test
+    public void copyFile() throws Exception {
+        Path destination = testFolder.resolve("copy").resolve("png_file.png");
+        FileUtil.copyFile(PNG_FILE, destination);
+        assertArrayEquals(Files.readAllBytes(PNG_FILE), Files.readAllBytes(destination));
+
+        // destination already exists
+        assertThrows(FileAlreadyExistsException.class, () -> FileUtil.copyFile(PNG_FILE, destination));
+    }
 }
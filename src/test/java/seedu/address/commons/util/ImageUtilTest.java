@@ -0,0 +1,49 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.commons.util.FileUtilTest.JPG_FILE;
+import static seedu.address.commons.util.FileUtilTest.PNG_FILE;
+import static seedu.address.commons.util.FileUtilTest.TEXT_FILE;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ImageUtilTest {
+
+    private static final int SIZE = 100;
+
+    @TempDir
+    public Path testFolder;
+
+    private void assertThumbnailWritten(Path source) throws IOException {
+        Path destination = testFolder.resolve("thumbnail.png");
+        ImageUtil.writeThumbnail(source, destination, SIZE);
+
+        BufferedImage thumbnail = ImageIO.read(destination.toFile());
+        assertEquals(SIZE, thumbnail.getWidth());
+        assertEquals(SIZE, thumbnail.getHeight());
+        assertFalse(Files.exists(testFolder.resolve("thumbnail.png.tmp")));
+    }
+
+    @Test
+    public void writeThumbnail_validImage_writesSquareThumbnail() throws Exception {
+        assertThumbnailWritten(JPG_FILE);
+        // replaces the thumbnail written before
+        assertThumbnailWritten(PNG_FILE);
+    }
+
+    @Test
+    public void writeThumbnail_notAnImage_throwsIoException() {
+        Path destination = testFolder.resolve("thumbnail.png");
+        assertThrows(IOException.class, () -> ImageUtil.writeThumbnail(TEXT_FILE, destination, SIZE));
+        assertFalse(Files.exists(destination));
+    }
+}
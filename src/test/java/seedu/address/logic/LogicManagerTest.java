@@ -13,6 +13,9 @@ import static seedu.address.testutil.TypicalPersons.AMY;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -89,6 +92,62 @@ public class LogicManagerTest {
         assertCommandFailure(addCommand, CommandException.class, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_addressBookUnchangedSinceSave_saveSkipped() throws Exception {
+        JsonAddressBookSaveCountingStub addressBookStorage =
+                new JsonAddressBookSaveCountingStub(temporaryFolder.resolve("frienddex.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        // first command always saves
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, addressBookStorage.saveCount);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, addressBookStorage.saveCount);
+
+        logic.execute(AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + BIRTHDAY_DESC_AMY);
+        assertEquals(2, addressBookStorage.saveCount);
+    }
+
+    @Test
+    public void execute_saveFailureReportedBeforeSaveReturns_savedAgain() throws Exception {
+        SaveFailureReportingStorageStub storage = new SaveFailureReportingStorageStub(
+                new JsonAddressBookStorage(temporaryFolder.resolve("frienddex.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+        List<String> failureMessages = new ArrayList<>();
+        logic.setSaveFailureHandler(failureMessages::add);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(1, storage.saveCount);
+        assertEquals(List.of(LogicManager.FILE_OPS_ERROR_MESSAGE + DUMMY_IO_EXCEPTION), failureMessages);
+
+        // the failed save is not mistaken for a successful one
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(2, storage.saveCount);
+    }
+
+    @Test
+    public void execute_dataLoading_onlyReadOnlyCommandsRunWithoutSaving() throws Exception {
+        JsonAddressBookSaveCountingStub addressBookStorage =
+                new JsonAddressBookSaveCountingStub(temporaryFolder.resolve("frienddex.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+        logic.setDataLoading(true);
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY
+                + ADDRESS_DESC_AMY + BIRTHDAY_DESC_AMY;
+        assertCommandException(addCommand, LogicManager.MESSAGE_DATA_LOADING);
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertEquals(0, addressBookStorage.saveCount);
+
+        logic.setDataLoading(false);
+        logic.execute(addCommand);
+        assertEquals(1, addressBookStorage.saveCount);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> logic.getFilteredPersonList().remove(0));
@@ -160,4 +219,46 @@ public class LogicManagerTest {
             throw DUMMY_IO_EXCEPTION;
         }
     }
+
+    /**
+     * A stub class that reports every address book save as failed to the save failure handler before the save
+     * method returns, as the storage writing in the background does if the save fails right away.
+     */
+    private static class SaveFailureReportingStorageStub extends StorageManager {
+        private Consumer<IOException> saveFailureHandler = unused -> { };
+        private int saveCount = 0;
+
+        private SaveFailureReportingStorageStub(JsonAddressBookStorage addressBookStorage,
+                JsonUserPrefsStorage userPrefsStorage) {
+            super(addressBookStorage, userPrefsStorage);
+        }
+
+        @Override
+        public void setSaveFailureHandler(Consumer<IOException> handler) {
+            saveFailureHandler = handler;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) {
+            saveCount++;
+            saveFailureHandler.accept(DUMMY_IO_EXCEPTION);
+        }
+    }
+
+    /**
+     * A stub class to count the number of times the save method is called.
+     */
+    private static class JsonAddressBookSaveCountingStub extends JsonAddressBookStorage {
+        private int saveCount = 0;
+
+        private JsonAddressBookSaveCountingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
 }
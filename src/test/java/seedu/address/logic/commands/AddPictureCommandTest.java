@@ -80,6 +80,7 @@ public class AddPictureCommandTest {
 
         Person editedPerson = model.getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased());
         assertTrue(Files.exists(editedPerson.getPicture().get().getFilePath()));
+        assertTrue(Files.exists(editedPerson.getPicture().get().getThumbnailFilePath()));
     }
 
     @Test
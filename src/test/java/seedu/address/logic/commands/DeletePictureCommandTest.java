@@ -50,7 +50,7 @@ public class DeletePictureCommandTest {
     public void execute_emptyPicture_throwsCommandException() {
         Person p = model
                 .getFilteredPersonList().get(INDEX_FIRST_PERSON.getZeroBased())
-                .deletePicture();
+                .deletePicture(model.getPictureStore());
 
         DeletePictureCommand cmd = new DeletePictureCommand(INDEX_FIRST_PERSON);
         assertCommandFailure(cmd, model,
@@ -130,6 +130,16 @@ public class AddressBookTest {
         public ObservableList<PersonStreak> getPersonStreaks() {
             return personStreaks;
         }
+
+        @Override
+        public long getModificationCount() {
+            return 0;
+        }
+
+        @Override
+        public long getPersonModificationStamp(int index) {
+            return 0;
+        }
     }
 
 }
@@ -0,0 +1,126 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.model.person.Goal.Frequency.WEEKLY;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.AppClock;
+import seedu.address.model.person.Goal;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonStreak;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.MeetingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonStreakListTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2021, 3, 1);
+
+    private static final Person ALICE_TWO_WEEKS = new PersonBuilder(ALICE).withGoal(new Goal(WEEKLY))
+            .withMeetings(new MeetingBuilder().withDate(TODAY).build(),
+                    new MeetingBuilder().withDate(TODAY.minusWeeks(1)).build())
+            .build();
+    private static final Person BENSON_ONE_WEEK = new PersonBuilder(BENSON).withGoal(new Goal(WEEKLY))
+            .withMeetings(new MeetingBuilder().withDate(TODAY).build())
+            .build();
+    private static final Person CARL_ONE_WEEK = new PersonBuilder(CARL).withGoal(new Goal(WEEKLY))
+            .withMeetings(new MeetingBuilder().withDate(TODAY).build())
+            .build();
+
+    private final PersonStreakList personStreakList = new PersonStreakList();
+
+    @BeforeEach
+    public void setUp() {
+        AppClock.setClock(Clock.fixed(TODAY.atTime(12, 0).toInstant(ZoneOffset.UTC), ZoneOffset.UTC));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        AppClock.useSystemClock();
+    }
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicatePersonException() {
+        personStreakList.add(ALICE_TWO_WEEKS);
+        assertThrows(DuplicatePersonException.class, () -> personStreakList.add(ALICE_TWO_WEEKS));
+    }
+
+    @Test
+    public void add_personsInAnyOrder_sortedByStreakThenName() {
+        personStreakList.add(CARL_ONE_WEEK);
+        personStreakList.add(ALICE_TWO_WEEKS);
+        personStreakList.add(BENSON_ONE_WEEK);
+        assertEquals(Arrays.asList(ALICE_TWO_WEEKS, BENSON_ONE_WEEK, CARL_ONE_WEEK), getPersons());
+    }
+
+    @Test
+    public void add_personWithoutGoal_notShown() {
+        personStreakList.add(ALICE);
+        personStreakList.add(BENSON_ONE_WEEK);
+        assertEquals(Arrays.asList(BENSON_ONE_WEEK), getPersons());
+    }
+
+    @Test
+    public void remove_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> personStreakList.remove(ALICE_TWO_WEEKS));
+    }
+
+    @Test
+    public void remove_personWithSameIdentityButDifferentFields_throwsPersonNotFoundException() {
+        personStreakList.add(ALICE_TWO_WEEKS);
+        assertThrows(PersonNotFoundException.class, () -> personStreakList.remove(ALICE));
+    }
+
+    @Test
+    public void setPerson_streakChanged_reordered() {
+        personStreakList.setPersons(Arrays.asList(BENSON_ONE_WEEK, ALICE_TWO_WEEKS, CARL_ONE_WEEK));
+        Person carlThreeWeeks = new PersonBuilder(CARL_ONE_WEEK)
+                .withMeetings(new MeetingBuilder().withDate(TODAY).build(),
+                        new MeetingBuilder().withDate(TODAY.minusWeeks(1)).build(),
+                        new MeetingBuilder().withDate(TODAY.minusWeeks(2)).build())
+                .build();
+        personStreakList.setPerson(CARL_ONE_WEEK, carlThreeWeeks);
+        assertEquals(Arrays.asList(carlThreeWeeks, ALICE_TWO_WEEKS, BENSON_ONE_WEEK), getPersons());
+    }
+
+    @Test
+    public void expireStreaks_deadlinePassed_onlyExpiredStreaksBroken() {
+        Person carlTwoWeeksAgo = new PersonBuilder(CARL_ONE_WEEK)
+                .withMeetings(new MeetingBuilder().withDate(TODAY.minusWeeks(1)).build(),
+                        new MeetingBuilder().withDate(TODAY.minusWeeks(2)).build())
+                .build();
+        personStreakList.setPersons(Arrays.asList(BENSON_ONE_WEEK, ALICE_TWO_WEEKS, carlTwoWeeksAgo));
+        assertEquals(Arrays.asList(ALICE_TWO_WEEKS, carlTwoWeeksAgo, BENSON_ONE_WEEK), getPersons());
+
+        personStreakList.expireStreaks(carlTwoWeeksAgo.getStreakState().getDeadline().plusDays(1));
+        assertEquals(Arrays.asList(ALICE_TWO_WEEKS, BENSON_ONE_WEEK, carlTwoWeeksAgo), getPersons());
+        assertEquals(Arrays.asList(2, 1, 0), personStreakList.asUnmodifiableList().stream()
+                .map(ps -> ps.getStreak().getValue())
+                .collect(Collectors.toList()));
+
+        // expired streaks can still be edited
+        personStreakList.setPerson(carlTwoWeeksAgo, CARL_ONE_WEEK);
+        assertEquals(Arrays.asList(ALICE_TWO_WEEKS, BENSON_ONE_WEEK, CARL_ONE_WEEK), getPersons());
+    }
+
+    private List<Person> getPersons() {
+        return personStreakList.asUnmodifiableList().stream()
+                .map(PersonStreak::getPerson)
+                .collect(Collectors.toList());
+    }
+}
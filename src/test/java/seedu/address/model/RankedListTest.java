@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class RankedListTest {
+
+    private final RankedList<Integer> rankedList = new RankedList<>();
+
+    @Test
+    public void add_elementsInAnyOrder_sorted() {
+        rankedList.add(3);
+        rankedList.add(1);
+        rankedList.add(2);
+        assertEquals(Arrays.asList(1, 2, 3), rankedList);
+    }
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> rankedList.add(null));
+    }
+
+    @Test
+    public void add_atIndex_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> rankedList.add(0, 1));
+    }
+
+    @Test
+    public void remove_elementNotInList_returnsFalse() {
+        rankedList.add(1);
+        assertFalse(rankedList.remove(Integer.valueOf(2)));
+        assertEquals(Arrays.asList(1), rankedList);
+    }
+
+    @Test
+    public void setAll_unsortedElements_replacesContentsInOrder() {
+        rankedList.add(5);
+        rankedList.setAll(Arrays.asList(3, 1, 2));
+        assertEquals(Arrays.asList(1, 2, 3), rankedList);
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        rankedList.add(1);
+        assertThrows(IndexOutOfBoundsException.class, () -> rankedList.get(1));
+    }
+
+    @Test
+    public void addAndRemove_manyElements_matchesSortedList() {
+        Random random = new Random(0);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Integer value = random.nextInt(500);
+            if (random.nextBoolean() && expected.contains(value)) {
+                expected.remove(value);
+                assertTrue(rankedList.remove(value));
+            } else {
+                expected.add(value);
+                rankedList.add(value);
+            }
+        }
+
+        Collections.sort(expected);
+        assertEquals(expected, rankedList);
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.indexOf(expected.get(i)), rankedList.indexOf(expected.get(i)));
+        }
+    }
+
+    @Test
+    public void addAndRemove_listenerAttached_oneChangePerOperation() {
+        int[] changeCount = {0};
+        rankedList.addListener((ListChangeListener<Integer>) unused -> changeCount[0]++);
+        rankedList.add(2);
+        rankedList.add(1);
+        rankedList.remove(Integer.valueOf(2));
+        assertEquals(3, changeCount[0]);
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonEvent;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.SpecialDateBuilder;
+
+public class UpcomingEventListTest {
+
+    // ALICE: 1 Jan, BENSON: 1 Feb, DANIEL: 1 Mar, ELLE: 1 Apr, FIONA: 1 May
+    private static final LocalDate MID_MARCH = LocalDate.of(2021, 3, 15);
+
+    private final UpcomingEventList upcomingEventList = new UpcomingEventList();
+
+    @Test
+    public void setPersons_unorderedPersons_orderedFromCurrentMonth() {
+        upcomingEventList.updateToday(MID_MARCH);
+        upcomingEventList.setPersons(Arrays.asList(ALICE, FIONA, BENSON, ELLE, DANIEL));
+        assertEquals(Arrays.asList(DANIEL, ELLE, FIONA, ALICE, BENSON), getPersons());
+    }
+
+    @Test
+    public void updateToday_monthChanged_reordered() {
+        upcomingEventList.updateToday(MID_MARCH);
+        upcomingEventList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL, ELLE, FIONA));
+        upcomingEventList.updateToday(MID_MARCH.plusMonths(1));
+        assertEquals(Arrays.asList(ELLE, FIONA, ALICE, BENSON, DANIEL), getPersons());
+    }
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicatePersonException() {
+        upcomingEventList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> upcomingEventList.add(ALICE));
+    }
+
+    @Test
+    public void add_personWithSpecialDate_eventsInsertedInOrder() {
+        upcomingEventList.updateToday(MID_MARCH);
+        upcomingEventList.setPersons(Arrays.asList(ALICE, DANIEL, FIONA));
+        Person elleWithAnniversary = new PersonBuilder(ELLE)
+                .withDates(new SpecialDateBuilder().withDate(LocalDate.of(2018, 1, 1))
+                        .withDescription("Anniversary").build())
+                .build();
+        upcomingEventList.add(elleWithAnniversary);
+
+        List<String> expectedDescriptions = Arrays.asList(
+                PersonEvent.getBirthdayDescription(DANIEL),
+                PersonEvent.getBirthdayDescription(ELLE),
+                PersonEvent.getBirthdayDescription(FIONA),
+                PersonEvent.getBirthdayDescription(ALICE),
+                PersonEvent.getEventDescription(elleWithAnniversary, elleWithAnniversary.getDates().get(0)));
+        assertEquals(expectedDescriptions, upcomingEventList.asUnmodifiableList().stream()
+                .map(PersonEvent::getDescription).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void remove_personNotInList_throwsPersonNotFoundException() {
+        assertThrows(PersonNotFoundException.class, () -> upcomingEventList.remove(ALICE));
+    }
+
+    @Test
+    public void setPerson_birthdayChanged_moved() {
+        upcomingEventList.updateToday(MID_MARCH);
+        upcomingEventList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL));
+        Person editedAlice = new PersonBuilder(ALICE).withBirthday("20-03-1998").build();
+        upcomingEventList.setPerson(ALICE, editedAlice);
+        assertEquals(Arrays.asList(DANIEL, editedAlice, BENSON), getPersons());
+    }
+
+    @Test
+    public void getUpcomingEvents_limit_returnsSoonestEventsFromToday() {
+        upcomingEventList.setPersons(Arrays.asList(ALICE, BENSON, DANIEL, ELLE, FIONA));
+        List<Person> upcomingPersons = upcomingEventList.getUpcomingEvents(MID_MARCH, 3).stream()
+                .map(PersonEvent::getPerson)
+                .collect(Collectors.toList());
+        assertEquals(Arrays.asList(ELLE, FIONA, ALICE), upcomingPersons);
+    }
+
+    private List<Person> getPersons() {
+        return upcomingEventList.asUnmodifiableList().stream()
+                .map(PersonEvent::getPerson)
+                .collect(Collectors.toList());
+    }
+}
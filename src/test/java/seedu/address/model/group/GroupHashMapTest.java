@@ -1,14 +1,22 @@
 package seedu.address.model.group;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.model.group.exceptions.DuplicateGroupException;
 import seedu.address.model.group.exceptions.GroupNotFoundException;
+import seedu.address.model.person.Name;
 import seedu.address.testutil.GroupBuilder;
 
 public class GroupHashMapTest {
@@ -91,4 +99,69 @@ public class GroupHashMapTest {
         group = new GroupBuilder().build();
         assertThrows(GroupNotFoundException.class, () -> groupMap.remove(group));
     }
+
+    @Test
+    public void getGroupNamesOf_personInGroups_returnsNonDefaultGroupNames() {
+        Group friends = new GroupBuilder().withName("Friends").withPersons(ALICE, BENSON).build();
+        Group family = new GroupBuilder().withName("Family").withPersons(ALICE).build();
+        groupMap.addPersonName(ALICE.getName());
+        groupMap.add(friends);
+        groupMap.add(family);
+
+        assertEquals(setOf(friends.getName(), family.getName()), groupMap.getGroupNamesOf(ALICE.getName()));
+        assertEquals(setOf(friends.getName()), groupMap.getGroupNamesOf(BENSON.getName()));
+        assertEquals(Collections.emptySet(), groupMap.getGroupNamesOf(CARL.getName()));
+
+        groupMap.remove(friends);
+        assertEquals(setOf(family.getName()), groupMap.getGroupNamesOf(ALICE.getName()));
+        assertEquals(Collections.emptySet(), groupMap.getGroupNamesOf(BENSON.getName()));
+    }
+
+    @Test
+    public void setGroup_groupModifiedBeforeSet_indexUpdated() {
+        Group friends = new GroupBuilder().withName("Friends").withPersons(ALICE, BENSON).build();
+        groupMap.add(friends);
+
+        // commands modify the group in the map before setting it
+        friends.setPersons(new HashSet<>(Collections.singleton(CARL.getName())));
+        groupMap.setGroup(friends.getName(), friends);
+
+        assertEquals(Collections.emptySet(), groupMap.getGroupNamesOf(ALICE.getName()));
+        assertEquals(setOf(friends.getName()), groupMap.getGroupNamesOf(CARL.getName()));
+    }
+
+    @Test
+    public void replacePerson_personInGroup_renamedInGroupAndIndex() {
+        Group friends = new GroupBuilder().withName("Friends").withPersons(ALICE, BENSON).build();
+        groupMap.addPersonName(ALICE.getName());
+        groupMap.add(friends);
+
+        groupMap.replacePerson(ALICE.getName(), CARL.getName());
+
+        assertEquals(setOf(BENSON.getName(), CARL.getName()), friends.getPersonNames());
+        assertTrue(groupMap.asUnmodifiableObservableMap().get(GroupHashMap.DEFAULT_GROUP_NAME)
+                .getPersonNames().contains(CARL.getName()));
+        assertEquals(Collections.emptySet(), groupMap.getGroupNamesOf(ALICE.getName()));
+        assertEquals(setOf(friends.getName()), groupMap.getGroupNamesOf(CARL.getName()));
+    }
+
+    @Test
+    public void deletePerson_personInGroup_removedFromGroupAndIndex() {
+        Group friends = new GroupBuilder().withName("Friends").withPersons(ALICE, BENSON).build();
+        groupMap.addPersonName(ALICE.getName());
+        groupMap.add(friends);
+
+        groupMap.deletePerson(ALICE.getName());
+
+        assertEquals(setOf(BENSON.getName()), friends.getPersonNames());
+        assertFalse(groupMap.asUnmodifiableObservableMap().get(GroupHashMap.DEFAULT_GROUP_NAME)
+                .getPersonNames().contains(ALICE.getName()));
+        assertEquals(Collections.emptySet(), groupMap.getGroupNamesOf(ALICE.getName()));
+    }
+
+    private static Set<Name> setOf(Name... names) {
+        Set<Name> set = new HashSet<>();
+        Collections.addAll(set, names);
+        return set;
+    }
 }
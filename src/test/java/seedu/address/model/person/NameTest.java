@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -62,4 +64,25 @@ public class NameTest {
         assertNotEquals(new Name("peter"), new Name("bob"));
         assertNotEquals(new Name("peter ong"), new Name("peter  ong")); // two spaces
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        assertEquals(new Name("Peter Ong").hashCode(), new Name("pEtEr oNg").hashCode());
+    }
+
+    @Test
+    public void of_identicalName_returnsSameInstance() {
+        Name name = Name.of("Peter Ong");
+        assertSame(name, Name.of("Peter Ong"));
+
+        // names differing in case are equal but not identical
+        Name otherCase = Name.of("peter ong");
+        assertEquals(name, otherCase);
+        assertNotSame(name, otherCase);
+    }
+
+    @Test
+    public void of_invalidName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Name.of("peter*"));
+    }
 }
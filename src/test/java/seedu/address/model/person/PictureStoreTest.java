@@ -0,0 +1,148 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class PictureStoreTest {
+
+    private static final Path PICTURE_FILE = Path.of("src", "test", "data", "PictureTest", "picture.jpg");
+    private static final Path SAME_PICTURE_FILE = Path.of("src", "test", "data", "PictureTest",
+            "picture with space.jpg");
+    private static final Path OTHER_PICTURE_FILE = Path.of("src", "test", "data", "FileTest", "png_file.png");
+
+    @TempDir
+    public Path testFolder;
+
+    private PictureStore pictureStore;
+
+    @BeforeEach
+    public void setUp() {
+        pictureStore = new PictureStore(testFolder);
+    }
+
+    @Test
+    public void add_samePictureTwice_storedOnce() throws Exception {
+        Picture picture = pictureStore.add(PICTURE_FILE);
+        Picture samePicture = pictureStore.add(SAME_PICTURE_FILE);
+
+        assertEquals(picture.getFilePath(), samePicture.getFilePath());
+        assertTrue(Files.exists(picture.getFilePath()));
+        assertTrue(Files.exists(picture.getThumbnailFilePath()));
+        assertEquals(2, pictureStore.getReferenceCount(picture));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            // the picture and its thumbnail
+            assertEquals(2, files.count());
+        }
+    }
+
+    @Test
+    public void add_differentPictures_storedSeparately() throws Exception {
+        Picture picture = pictureStore.add(PICTURE_FILE);
+        Picture otherPicture = pictureStore.add(OTHER_PICTURE_FILE);
+
+        assertNotEquals(picture.getFilePath(), otherPicture.getFilePath());
+        assertEquals(1, pictureStore.getReferenceCount(picture));
+        assertEquals(1, pictureStore.getReferenceCount(otherPicture));
+    }
+
+    @Test
+    public void release_pictureStillReferenced_keepsFiles() throws Exception {
+        Picture picture = pictureStore.add(PICTURE_FILE);
+        pictureStore.add(PICTURE_FILE);
+
+        pictureStore.release(picture);
+        assertTrue(Files.exists(picture.getFilePath()));
+        assertEquals(1, pictureStore.getReferenceCount(picture));
+
+        pictureStore.release(picture);
+        assertFalse(Files.exists(picture.getFilePath()));
+        assertFalse(Files.exists(picture.getThumbnailFilePath()));
+        assertEquals(0, pictureStore.getReferenceCount(picture));
+    }
+
+    @Test
+    public void release_pictureNotCounted_deletesFile() throws Exception {
+        Path filePath = testFolder.resolve("picture.jpg");
+        Files.copy(PICTURE_FILE, filePath);
+
+        pictureStore.release(new Picture(filePath));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void setReferences_personsSharingPicture_countsEveryPerson() throws Exception {
+        Picture picture = pictureStore.add(PICTURE_FILE);
+        pictureStore.setReferences(Arrays.asList(ALICE.withPicture(picture),
+                BENSON.withPicture(new Picture(picture.getFilePath())), CARL));
+
+        assertEquals(2, pictureStore.getReferenceCount(picture));
+    }
+
+    private Path createFile(String fileName, Instant lastModifiedTime) throws Exception {
+        Path file = testFolder.resolve(fileName);
+        Files.copy(PICTURE_FILE, file);
+        Files.setLastModifiedTime(file, FileTime.from(lastModifiedTime));
+        return file;
+    }
+
+    @Test
+    public void collectOrphanedPictures_unreferencedPictureFiles_deleted() throws Exception {
+        Instant startTime = Instant.now();
+        Instant before = startTime.minus(Duration.ofHours(1));
+        Picture picture = pictureStore.add(PICTURE_FILE);
+        Files.setLastModifiedTime(picture.getFilePath(), FileTime.from(before));
+        Files.setLastModifiedTime(picture.getThumbnailFilePath(), FileTime.from(before));
+
+        Path orphan = createFile("0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef.jpg", before);
+        Path orphanThumbnail = createFile(
+                "0123456789abcdef0123456789abcdef0123456789abcdef0123456789abcdef-thumbnail.png", before);
+        Path uuidOrphan = createFile("123e4567-e89b-12d3-a456-426614174000.JPG", before);
+        Path temporaryOrphan = createFile("123e4567-e89b-12d3-a456-426614174000.jpg.tmp", before);
+        Path otherFile = createFile("frienddex.json", before);
+        long orphanBytes = Files.size(orphan) + Files.size(orphanThumbnail) + Files.size(uuidOrphan)
+                + Files.size(temporaryOrphan);
+
+        assertEquals(orphanBytes, pictureStore.collectOrphanedPictures(startTime));
+
+        assertFalse(Files.exists(orphan));
+        assertFalse(Files.exists(orphanThumbnail));
+        assertFalse(Files.exists(uuidOrphan));
+        assertFalse(Files.exists(temporaryOrphan));
+        // referenced pictures and files not written by the store are kept
+        assertTrue(Files.exists(picture.getFilePath()));
+        assertTrue(Files.exists(picture.getThumbnailFilePath()));
+        assertTrue(Files.exists(otherFile));
+    }
+
+    @Test
+    public void collectOrphanedPictures_modifiedAfterStart_kept() throws Exception {
+        Instant startTime = Instant.now();
+        Path orphan = createFile("123e4567-e89b-12d3-a456-426614174000.jpg", startTime.plus(Duration.ofHours(1)));
+
+        assertEquals(0, pictureStore.collectOrphanedPictures(startTime));
+        assertTrue(Files.exists(orphan));
+    }
+
+    @Test
+    public void collectOrphanedPictures_missingDirectory_nothingReclaimed() throws Exception {
+        PictureStore missingStore = new PictureStore(testFolder.resolve("missing"));
+        assertEquals(0, missingStore.collectOrphanedPictures(Instant.now()));
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.model.person.Goal.Frequency.NONE;
+import static seedu.address.model.person.Goal.Frequency.WEEKLY;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.MeetingBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class StreakStateTest {
+
+    // Mondays, one week apart
+    private static final LocalDate WEEK_1 = LocalDate.of(2021, 3, 1);
+    private static final LocalDate WEEK_2 = WEEK_1.plusWeeks(1);
+    private static final LocalDate WEEK_3 = WEEK_1.plusWeeks(2);
+    private static final LocalDate WEEK_5 = WEEK_1.plusWeeks(4);
+    private static final LocalDate WEEK_6 = WEEK_1.plusWeeks(5);
+
+    private final Goal weeklyGoal = new Goal(WEEKLY);
+
+    @Test
+    public void of_noneGoal_noLastMeetingDate() {
+        StreakState state = StreakState.of(new Goal(NONE), meetingsOn(WEEK_2, WEEK_1));
+        assertEquals(0, state.getRunLength());
+        assertNull(state.getLastMeetingDate());
+        assertEquals(Streak.empty(), state.toStreak(WEEK_2));
+    }
+
+    @Test
+    public void of_unorderedMeetings_sameAsOrderedMeetings() {
+        assertEquals(StreakState.of(weeklyGoal, meetingsOn(WEEK_6, WEEK_5, WEEK_2, WEEK_1)),
+                StreakState.of(weeklyGoal, meetingsOn(WEEK_1, WEEK_5, WEEK_6, WEEK_2)));
+    }
+
+    @Test
+    public void of_gapInMeetings_countsLatestRun() {
+        StreakState state = StreakState.of(weeklyGoal, meetingsOn(WEEK_6, WEEK_5, WEEK_2, WEEK_1));
+        assertEquals(2, state.getRunLength());
+        assertEquals(WEEK_6, state.getLastMeetingDate());
+        assertEquals(WEEK_6.plusDays(13), state.getDeadline());
+    }
+
+    @Test
+    public void toStreak_afterDeadline_streakBroken() {
+        StreakState state = StreakState.of(weeklyGoal, meetingsOn(WEEK_2, WEEK_1));
+        assertEquals(2, state.toStreak(state.getDeadline()).getValue());
+        assertEquals(0, state.toStreak(state.getDeadline().plusDays(1)).getValue());
+    }
+
+    @Test
+    public void afterAdding_sameAsRecomputed() {
+        List<Meeting> meetings = meetingsOn(WEEK_5, WEEK_2, WEEK_1);
+        StreakState state = StreakState.of(weeklyGoal, meetings);
+
+        // latest meeting continuing the run, latest meeting breaking the run, meeting within the run
+        for (LocalDate date : Arrays.asList(WEEK_6, WEEK_6.plusWeeks(3), WEEK_5)) {
+            assertAfterAddingSameAsRecomputed(state, meetings, date);
+        }
+
+        // meeting before the run that joins it with the earlier run
+        assertAfterAddingSameAsRecomputed(state, meetings, WEEK_3);
+    }
+
+    @Test
+    public void afterRemoving_sameAsRecomputed() {
+        List<Meeting> meetings = meetingsOn(WEEK_6, WEEK_5, WEEK_2, WEEK_1);
+        StreakState state = StreakState.of(weeklyGoal, meetings);
+
+        for (int i = 0; i < meetings.size(); i++) {
+            List<Meeting> newMeetings = new ArrayList<>(meetings);
+            Meeting removed = newMeetings.remove(i);
+            assertEquals(StreakState.of(weeklyGoal, newMeetings),
+                    state.afterRemoving(weeklyGoal, newMeetings, removed));
+        }
+
+        // meetings before the run do not change it
+        List<Meeting> newMeetings = meetingsOn(WEEK_6, WEEK_5, WEEK_1);
+        assertSame(state, state.afterRemoving(weeklyGoal, newMeetings, meetings.get(2)));
+    }
+
+    @Test
+    public void withMeeting_person_sameStreakAsNewPerson() {
+        Person person = new PersonBuilder().withGoal(weeklyGoal)
+                .withMeetings(meetingsOn(WEEK_2, WEEK_1).toArray(new Meeting[0])).build();
+        Person editedPerson = person.withMeeting(new MeetingBuilder().withDate(WEEK_3).build());
+
+        assertEquals(meetingsOn(WEEK_3, WEEK_2, WEEK_1), editedPerson.getMeetings());
+        assertEquals(StreakState.of(weeklyGoal, editedPerson.getMeetings()), editedPerson.getStreakState());
+        assertEquals(person.getStreakState(), editedPerson.withoutMeeting(0).getStreakState());
+    }
+
+    private void assertAfterAddingSameAsRecomputed(StreakState state, List<Meeting> meetings, LocalDate date) {
+        Meeting added = new MeetingBuilder().withDate(date).build();
+        List<Meeting> newMeetings = new ArrayList<>(meetings);
+        newMeetings.add(added);
+        assertEquals(StreakState.of(weeklyGoal, newMeetings), state.afterAdding(weeklyGoal, newMeetings, added));
+    }
+
+    private static List<Meeting> meetingsOn(LocalDate... dates) {
+        List<Meeting> meetings = new ArrayList<>();
+        for (LocalDate date : dates) {
+            meetings.add(new MeetingBuilder().withDate(date).build());
+        }
+        return meetings;
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.storage.AddressBookAssembler.BATCH_SIZE;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class AddressBookAssemblerTest {
+
+    /**
+     * Returns {@code count} distinct persons, enough to be converted in several parallel batches.
+     */
+    private List<Person> getPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PersonBuilder(BENSON).withName("Person " + i).build());
+        }
+        return persons;
+    }
+
+    private JsonAdaptedPerson getInvalidPerson() {
+        return new JsonAdaptedPerson("Invalid Person", "+651234", BENSON.getEmail().toString(),
+                BENSON.getBirthday().getDate(), BENSON.getGoal().toString(), BENSON.getAddress().toString(), null,
+                BENSON.getDebt().toString(),
+                BENSON.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList()),
+                new ArrayList<>(), new ArrayList<>());
+    }
+
+    private AddressBook assemble(List<JsonAdaptedPerson> jsonAdaptedPersons) throws IllegalValueException {
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        for (JsonAdaptedPerson jsonAdaptedPerson : jsonAdaptedPersons) {
+            assembler.addPerson(jsonAdaptedPerson);
+        }
+        return assembler.toModelType();
+    }
+
+    private List<JsonAdaptedPerson> adapt(List<Person> persons) {
+        return persons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList());
+    }
+
+    @Test
+    public void toModelType_manyPersons_keepsOrder() throws Exception {
+        List<Person> persons = getPersons(BATCH_SIZE * 2 + 3);
+        AddressBookAssembler assembler = new AddressBookAssembler();
+        for (JsonAdaptedPerson jsonAdaptedPerson : adapt(persons)) {
+            assembler.addPerson(jsonAdaptedPerson);
+        }
+        assembler.addGroup(new JsonAdaptedGroup(new GroupBuilder()
+                .withPersons(persons.get(0), persons.get(BATCH_SIZE * 2)).build()));
+
+        AddressBook expected = new AddressBook();
+        expected.setPersons(persons);
+        expected.addGroup(new GroupBuilder().withPersons(persons.get(0), persons.get(BATCH_SIZE * 2)).build());
+        assertEquals(expected, assembler.toModelType());
+    }
+
+    @Test
+    public void toModelType_invalidPersonBeforeDuplicate_throwsInvalidPersonError() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = adapt(getPersons(BATCH_SIZE / 2));
+        jsonAdaptedPersons.add(10, getInvalidPerson());
+        jsonAdaptedPersons.add(jsonAdaptedPersons.get(0));
+
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> assemble(jsonAdaptedPersons));
+    }
+
+    @Test
+    public void toModelType_duplicateBeforeInvalidPerson_throwsDuplicateError() {
+        List<JsonAdaptedPerson> jsonAdaptedPersons = adapt(getPersons(BATCH_SIZE / 2));
+        jsonAdaptedPersons.add(10, jsonAdaptedPersons.get(0));
+        jsonAdaptedPersons.add(getInvalidPerson());
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATES_IN_PERSONS, () ->
+                assemble(jsonAdaptedPersons));
+    }
+}
@@ -0,0 +1,67 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static seedu.address.testutil.TestDataUtil.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncStorageManagerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AsyncStorageManager asyncStorageManager;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage = new JsonAddressBookStorage(testFolder.resolve("ab"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(testFolder.resolve("prefs"));
+        asyncStorageManager = new AsyncStorageManager(new StorageManager(addressBookStorage, userPrefsStorage));
+    }
+
+    @Test
+    public void saveAddressBook_modifiedAfterSave_savesSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        asyncStorageManager.saveAddressBook(original);
+        original.removePerson(ALICE);
+        asyncStorageManager.flush();
+
+        ReadOnlyAddressBook retrieved = asyncStorageManager.readAddressBook().get();
+        assertEquals(getTypicalAddressBook(), new AddressBook(retrieved));
+    }
+
+    @Test
+    public void saveAddressBook_burstOfSaves_savesLatest() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        asyncStorageManager.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        asyncStorageManager.saveAddressBook(addressBook);
+        asyncStorageManager.flush();
+
+        ReadOnlyAddressBook retrieved = asyncStorageManager.readAddressBook().get();
+        assertEquals(addressBook, new AddressBook(retrieved));
+    }
+
+    @Test
+    public void saveAddressBook_writeFails_failureHandled() throws Exception {
+        AtomicReference<IOException> failure = new AtomicReference<>();
+        asyncStorageManager.setSaveFailureHandler(failure::set);
+
+        // the temporary folder is a directory, so it cannot be written to as a file
+        asyncStorageManager.saveAddressBook(getTypicalAddressBook(), testFolder);
+        asyncStorageManager.flush();
+
+        assertNotNull(failure.get());
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestDataUtil.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalMeetings.MEETING_1;
+import static seedu.address.testutil.TypicalMeetings.MEETING_2;
+import static seedu.address.testutil.TypicalMeetings.MEETING_3;
+import static seedu.address.testutil.TypicalMeetings.MEETING_4;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalSpecialDates.DATE_ONE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableMap;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook getAddressBookWithAllFields() {
+        AddressBook addressBook = getTypicalAddressBook();
+        // meetings are sorted latest first when read
+        Person editedAlice = new PersonBuilder(ALICE).withDebt("-12.34")
+                .withMeetings(MEETING_3, MEETING_4, MEETING_1, MEETING_2).withDates(DATE_ONE).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.addGroup(new GroupBuilder().withPersons(editedAlice, BENSON).build());
+        return addressBook;
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("frienddex.bin");
+        AddressBook original = getAddressBookWithAllFields();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_convertedBetweenFormats_noDataLost() throws Exception {
+        Path jsonFilePath = testFolder.resolve("frienddex.json");
+        Path binaryFilePath = testFolder.resolve("frienddex.bin");
+        AddressBook original = getAddressBookWithAllFields();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        // each format reads files in the other format
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(binaryFilePath);
+        binaryStorage.saveAddressBook(binaryStorage.readAddressBook(jsonFilePath).get());
+        JsonAddressBookStorage jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+        jsonStorage.saveAddressBook(jsonStorage.readAddressBook(binaryFilePath).get());
+
+        assertEquals(original, new AddressBook(jsonStorage.readAddressBook().get()));
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void saveAddressBook_encodingFails_previousFileKept() throws Exception {
+        Path filePath = testFolder.resolve("frienddex.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getAddressBookWithAllFields();
+        storage.saveAddressBook(original);
+
+        AddressBook failingAddressBook = new AddressBook(original) {
+            @Override
+            public ObservableMap<Name, Group> getGroupMap() {
+                throw new IllegalStateException("failed while encoding groups");
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> storage.saveAddressBook(failingAddressBook));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("missing.bin")).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("frienddex.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getAddressBookWithAllFields());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataConversionException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("frienddex.bin");
+        Files.write(filePath, new byte[] {'F', 'D', 'E', 'X', BinaryAddressBookStorage.VERSION + 1});
+
+        assertThrows(DataConversionException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+}
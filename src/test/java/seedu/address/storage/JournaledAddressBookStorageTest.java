@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestDataUtil.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalFilePath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("frienddex.json");
+        journalFilePath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    private JournaledAddressBookStorage createStorage(long compactionThreshold) {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), compactionThreshold);
+    }
+
+    private AddressBook readBack() throws Exception {
+        return new AddressBook(createStorage(Long.MAX_VALUE).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_savesSnapshot() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        createStorage(Long.MAX_VALUE).saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterFirstSave_appendsToJournal() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        String snapshot = Files.readString(filePath);
+
+        Person editedBenson = new PersonBuilder(BENSON).withName("Benson Mayer").build();
+        Person editedCarl = new PersonBuilder(CARL).withPhone("11111111").build();
+        addressBook.removePerson(ALICE);
+        addressBook.setPerson(BENSON, editedBenson);
+        addressBook.setPerson(CARL, editedCarl);
+        addressBook.addPerson(HOON);
+        addressBook.addGroup(new GroupBuilder().withPersons(editedBenson, HOON).build());
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(snapshot, Files.readString(filePath));
+        // the snapshot id, then the changes, where renaming Benson removes the old name and puts the new one
+        assertEquals(7, Files.readAllLines(journalFilePath).size());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_savesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(0);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void flush_journalNotEmpty_savesSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.exists(journalFilePath));
+
+        storage.flush();
+        assertFalse(Files.exists(journalFilePath));
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_journalOfPreviousSnapshot_ignored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        byte[] journal = Files.readAllBytes(journalFilePath);
+
+        // the application stops after saving the new snapshot, but before deleting the journal
+        storage.flush();
+        Files.write(journalFilePath, journal);
+
+        JournaledAddressBookStorage readStorage = createStorage(Long.MAX_VALUE);
+        AddressBook readAddressBook = new AddressBook(readStorage.readAddressBook().get());
+        assertEquals(addressBook, readAddressBook);
+
+        // the next save replaces the stale journal
+        readAddressBook.removePerson(BENSON);
+        readStorage.saveAddressBook(readAddressBook);
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(readAddressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_thenSave_appendsToJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        createStorage(Long.MAX_VALUE).saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        AddressBook readAddressBook = new AddressBook(storage.readAddressBook().get());
+        readAddressBook.removePerson(ALICE);
+        storage.saveAddressBook(readAddressBook);
+
+        assertEquals(2, Files.readAllLines(journalFilePath).size());
+        assertEquals(readAddressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage(Long.MAX_VALUE);
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        Files.writeString(journalFilePath, "{\"operation\":\"remo", StandardOpenOption.APPEND);
+
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_invalidEntry_throwsDataConversionException() throws Exception {
+        createStorage(Long.MAX_VALUE).saveAddressBook(getTypicalAddressBook());
+        Files.write(journalFilePath, "{\"operation\":\"removePerson\",\"name\":\"Hoon Meier\"}\n"
+                .getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(DataConversionException.class, () -> createStorage(Long.MAX_VALUE).readAddressBook());
+    }
+}
@@ -0,0 +1,43 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Picture;
+
+public class JsonAdaptedPictureTest {
+
+    private static final Path PICTURE_FILE = Path.of("src", "test", "data", "PictureTest", "picture.jpg");
+    private static final Path THUMBNAIL_FILE = Path.of("src", "test", "data", "PictureTest", "thumbnail.png");
+
+    @Test
+    public void toModelType_withThumbnailFilePath_returnsPicture() throws Exception {
+        Picture picture = new JsonAdaptedPicture(PICTURE_FILE, THUMBNAIL_FILE).toModelType();
+        assertEquals(PICTURE_FILE, picture.getFilePath());
+        // thumbnails that do not exist yet are created when they are shown
+        assertEquals(THUMBNAIL_FILE, picture.getThumbnailFilePath());
+    }
+
+    @Test
+    public void toModelType_withoutThumbnailFilePath_returnsPictureWithDefaultThumbnail() throws Exception {
+        Picture picture = new JsonAdaptedPicture(PICTURE_FILE, null).toModelType();
+        assertEquals(PICTURE_FILE.resolveSibling("picture-thumbnail.png"), picture.getThumbnailFilePath());
+    }
+
+    @Test
+    public void toModelType_missingPicture_throwsIllegalValueException() {
+        JsonAdaptedPicture picture = new JsonAdaptedPicture(PICTURE_FILE.resolveSibling("missing.jpg"), null);
+        assertThrows(IllegalValueException.class, picture::toModelType);
+    }
+
+    @Test
+    public void constructor_fromPicture_keepsThumbnailFilePath() throws Exception {
+        Picture picture = new JsonAdaptedPicture(new Picture(PICTURE_FILE, THUMBNAIL_FILE)).toModelType();
+        assertEquals(THUMBNAIL_FILE, picture.getThumbnailFilePath());
+    }
+}
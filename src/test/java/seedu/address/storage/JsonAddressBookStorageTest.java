@@ -9,8 +9,12 @@ import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -18,6 +22,8 @@ import org.junit.jupiter.api.io.TempDir;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
@@ -86,6 +92,62 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveAddressBook_notPrettyPrinted_savedOnSingleLine() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, false);
+
+        jsonAddressBookStorage.saveAddressBook(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        assertEquals(original, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personsSavedBefore_sameFileAsFreshSave() throws Exception {
+        for (boolean isPrettyPrinted : new boolean[] {true, false}) {
+            Path filePath = testFolder.resolve("TempAddressBook.json");
+            Path freshFilePath = testFolder.resolve("FreshAddressBook.json");
+            AddressBook addressBook = getTypicalAddressBook();
+            JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath, isPrettyPrinted);
+            jsonAddressBookStorage.saveAddressBook(addressBook);
+
+            addressBook.removePerson(ALICE);
+            addressBook.addPerson(HOON);
+            addressBook.setPerson(HOON, IDA);
+            jsonAddressBookStorage.saveAddressBook(addressBook);
+            new JsonAddressBookStorage(freshFilePath, isPrettyPrinted).saveAddressBook(addressBook);
+
+            assertEquals(Files.readString(freshFilePath), Files.readString(filePath));
+            assertEquals(addressBook, new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+        }
+    }
+
+    @Test
+    public void readAddressBook_withLoadedPersonsHandler_passesPersonsInBatches() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        AddressBook original = new AddressBook();
+        for (int i = 0; i < AddressBookAssembler.BATCH_SIZE + 1; i++) {
+            original.addPerson(new PersonBuilder(ALICE).withName("Person " + i).build());
+        }
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+        jsonAddressBookStorage.saveAddressBook(original);
+
+        List<List<Person>> batches = new ArrayList<>();
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook(filePath, batches::add).get();
+        assertEquals(2, batches.size());
+        assertEquals(1, batches.get(1).size());
+        assertEquals(readBack.getPersonList(), batches.stream().flatMap(List::stream).collect(Collectors.toList()));
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAddressBook_notJsonObject_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        Files.writeString(filePath, "[]");
+        assertThrows(DataConversionException.class, () -> new JsonAddressBookStorage(filePath).readAddressBook());
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
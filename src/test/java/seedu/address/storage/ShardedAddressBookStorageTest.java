@@ -0,0 +1,230 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TestDataUtil.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javafx.collections.ObservableMap;
+import seedu.address.commons.core.DataFileFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.group.Group;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.GroupBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_SIZE = 2;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path shardDirectory;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("frienddex.json");
+        shardDirectory = ShardedAddressBookStorage.getShardDirectory(filePath);
+    }
+
+    private ShardedAddressBookStorage createStorage() {
+        return new ShardedAddressBookStorage(filePath, SHARD_SIZE, false);
+    }
+
+    /**
+     * Returns the names of the files in the shard directory.
+     */
+    private Set<String> listSavedFiles() throws Exception {
+        Set<String> fileNames = new HashSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory)) {
+            for (Path file : files) {
+                fileNames.add(file.getFileName().toString());
+            }
+        }
+        return fileNames;
+    }
+
+    /**
+     * Returns the names of the files in the shard directory that are not in {@code previousFiles}.
+     */
+    private Set<String> listNewFiles(Set<String> previousFiles) throws Exception {
+        Set<String> newFiles = listSavedFiles();
+        newFiles.removeAll(previousFiles);
+        return newFiles;
+    }
+
+    /**
+     * Deletes every file saved so far, so that the files found after the next save are the ones it rewrote.
+     */
+    private void deleteSavedFiles() throws Exception {
+        Files.delete(filePath);
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(shardDirectory)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.addGroup(new GroupBuilder().withPersons(ALICE, BENSON).build());
+        createStorage().saveAddressBook(original);
+
+        assertEquals(DataFileFormat.SHARDED, DataFileFormatDetector.detect(filePath));
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+        // every storage reads the sharded format
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_onePersonEdited_rewritesOneShard() throws Exception {
+        ShardedAddressBookStorage storage = createStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Set<String> previousFiles = listSavedFiles();
+
+        Person editedCarl = new PersonBuilder(CARL).withPhone("11111111").build();
+        addressBook.setPerson(CARL, editedCarl);
+        storage.saveAddressBook(addressBook);
+
+        // Carl is the third person, in the second shard, which is replaced by a new file
+        assertEquals(1, listNewFiles(previousFiles).size());
+        assertEquals(previousFiles.size(), listSavedFiles().size());
+        assertEquals(addressBook, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personsRemoved_rewritesShardsOfRemovedPersons() throws Exception {
+        ShardedAddressBookStorage storage = createStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        Set<String> previousFiles = listSavedFiles();
+
+        addressBook.removePerson(CARL);
+        addressBook.removePerson(ELLE);
+        storage.saveAddressBook(addressBook);
+
+        // Carl and Elle are in the second and third shards, whose remaining persons fit in one new shard, and the
+        // shards after them are kept
+        assertEquals(1, listNewFiles(previousFiles).size());
+        assertEquals(previousFiles.size() - 1, listSavedFiles().size());
+        assertEquals(addressBook, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personsAdded_fillLastShard() throws Exception {
+        ShardedAddressBookStorage storage = createStorage();
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.removePerson(GEORGE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(GEORGE);
+        storage.saveAddressBook(addressBook);
+        Set<String> previousFiles = listSavedFiles();
+
+        addressBook.addPerson(HOON);
+        addressBook.addPerson(IDA);
+        storage.saveAddressBook(addressBook);
+
+        // George was added to a new shard of his own, which Hoon joins, while Ida starts another one
+        assertEquals(2, listNewFiles(previousFiles).size());
+        assertEquals(previousFiles.size() + 1, listSavedFiles().size());
+        assertEquals(addressBook, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_failsBeforeManifest_previousSaveKept() throws Exception {
+        ShardedAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        AddressBook changed = getTypicalAddressBook();
+        changed.removePerson(ALICE);
+        AddressBook failingAddressBook = new AddressBook(changed) {
+            @Override
+            public ObservableMap<Name, Group> getGroupMap() {
+                throw new IllegalStateException("failed while saving groups");
+            }
+        };
+        assertThrows(IllegalStateException.class, () -> storage.saveAddressBook(failingAddressBook));
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+
+        // the next save does not replace any file of the previous save before replacing the manifest
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.removePerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_numberedShards_readAndReplaced() throws Exception {
+        // shards were named by their position before the manifest named them
+        AddressBook original = getTypicalAddressBook();
+        original.addGroup(new GroupBuilder().withPersons(ALICE, BENSON).build());
+        new ShardedAddressBookStorage(filePath, 64, false).saveAddressBook(original);
+        Files.move(shardDirectory.resolve("persons-1-0.json"), shardDirectory.resolve("persons-0.json"));
+        Files.move(shardDirectory.resolve("groups-1.json"), shardDirectory.resolve("groups.json"));
+        FileUtil.writeToFile(filePath, "{\"shardedFormatVersion\":1,\"shardSize\":64,\"shardCount\":1}");
+
+        ShardedAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, addressBook);
+
+        addressBook.removePerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertFalse(listSavedFiles().contains("persons-0.json"));
+        assertEquals(addressBook, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_thenSaveUnchanged_rewritesNothing() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+
+        ShardedAddressBookStorage storage = createStorage();
+        AddressBook addressBook = new AddressBook(storage.readAddressBook().get());
+        deleteSavedFiles();
+        storage.saveAddressBook(addressBook);
+
+        assertTrue(listSavedFiles().isEmpty());
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAddressBook_missingShard_throwsDataConversionException() throws Exception {
+        createStorage().saveAddressBook(getTypicalAddressBook());
+        Files.delete(shardDirectory.resolve(listSavedFiles().stream()
+                .filter(fileName -> fileName.startsWith("persons-")).findFirst().get()));
+
+        assertThrows(DataConversionException.class, () -> createStorage().readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataConversionException() throws Exception {
+        FileUtil.writeToFile(filePath, "{\"shardedFormatVersion\":3,\"shardSize\":2,\"shardCount\":0}");
+
+        assertThrows(DataConversionException.class, () -> createStorage().readAddressBook());
+    }
+}